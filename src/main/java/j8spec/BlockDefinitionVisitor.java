@@ -6,7 +6,7 @@ abstract class BlockDefinitionVisitor {
         return this;
     }
 
-    <T> BlockDefinitionVisitor varInitializer(Var<T> var, UnsafeFunction<T> initFunction) {
+    <T> BlockDefinitionVisitor varInitializer(VarConfiguration config, Var<T> var, UnsafeFunction<T> initFunction) {
         return this;
     }
 
@@ -67,17 +67,19 @@ final class BlockDefinitions {
     }
 
     static final class VarInitializer<T> implements BlockDefinition {
+        private final VarConfiguration config;
         private final Var<T> var;
         private final UnsafeFunction<T> initFunction;
 
-        VarInitializer(Var<T> var, UnsafeFunction<T> initFunction) {
+        VarInitializer(VarConfiguration config, Var<T> var, UnsafeFunction<T> initFunction) {
+            this.config = config;
             this.var = var;
             this.initFunction = initFunction;
         }
 
         @Override
         public void accept(BlockDefinitionVisitor visitor) {
-            visitor.varInitializer(var, initFunction);
+            visitor.varInitializer(config, var, initFunction);
         }
     }
 }
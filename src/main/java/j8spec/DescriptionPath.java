@@ -0,0 +1,56 @@
+package j8spec;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list of the descriptions of an example group and all its outer groups.
+ *
+ * <p>
+ *     A path is created once per example group and shared by all its examples and inner groups. Each path keeps
+ *     a reference to all the paths it starts with, so prefix checks take constant time. Prefixes are compared by
+ *     identity, i.e. only paths created from the same spec definition are prefixes of each other.
+ * </p>
+ */
+final class DescriptionPath extends AbstractList<String> implements RandomAccess {
+
+    static final DescriptionPath ROOT = new DescriptionPath();
+
+    private final DescriptionPath[] prefixes;
+    private final String description;
+
+    private DescriptionPath() {
+        this.prefixes = new DescriptionPath[0];
+        this.description = null;
+    }
+
+    private DescriptionPath(DescriptionPath parent, String description) {
+        this.prefixes = Arrays.copyOf(parent.prefixes, parent.prefixes.length + 1);
+        this.prefixes[parent.prefixes.length] = this;
+        this.description = description;
+    }
+
+    DescriptionPath child(String description) {
+        return new DescriptionPath(this, description);
+    }
+
+    DescriptionPath parent() {
+        return prefixes.length < 2 ? ROOT : prefixes[prefixes.length - 2];
+    }
+
+    boolean startsWith(DescriptionPath prefix) {
+        int size = prefix.prefixes.length;
+        return size == 0 || size <= prefixes.length && prefixes[size - 1] == prefix;
+    }
+
+    @Override
+    public String get(int index) {
+        return prefixes[index].description;
+    }
+
+    @Override
+    public int size() {
+        return prefixes.length;
+    }
+}
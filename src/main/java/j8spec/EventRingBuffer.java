@@ -0,0 +1,118 @@
+package j8spec;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded lock-free queue of events, written by the threads running examples and read by a single dispatcher.
+ *
+ * <p>
+ *     Slots are allocated once and reused. Each slot has a sequence number telling whether it can be written for a
+ *     given position or read at it, so producers only compete for the tail position and never wait for the
+ *     dispatcher: when the buffer is full the event is dropped and counted.
+ * </p>
+ *
+ * <p>
+ *     The dispatcher parks while the buffer is empty, and the producer of the event that makes it non-empty unparks
+ *     it, so an idle buffer costs nothing.
+ * </p>
+ */
+final class EventRingBuffer {
+
+    private final ExampleEvent[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long head;
+    private volatile Thread dispatcher;
+
+    EventRingBuffer(int minimumCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, minimumCapacity) * 2 - 1);
+        this.slots = new ExampleEvent[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new ExampleEvent();
+            sequences.set(i, i);
+        }
+    }
+
+    boolean publish(
+        ExampleEvent.Type type,
+        List<String> groupDescriptions,
+        ExampleEvent.Hook hook,
+        Example example,
+        Throwable failure,
+        long allocatedBytes
+    ) {
+        long position = tail.get();
+        while (true) {
+            long sequence = sequences.get((int) position & mask);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (sequence < position) {
+                dropped.incrementAndGet();
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+
+        int index = (int) position & mask;
+        slots[index].set(type, groupDescriptions, hook, example, failure, allocatedBytes);
+        sequences.set(index, position + 1);
+        if (head == position) {
+            LockSupport.unpark(dispatcher);
+        }
+        return true;
+    }
+
+    /**
+     * @param dispatcher thread that calls {@link #dispatchNext(ExampleListener[])} and parks while it returns
+     * <code>false</code>
+     */
+    void dispatcher(Thread dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Delivers the next event to the given listeners. Must be called by a single thread.
+     *
+     * @return <code>false</code> if there was no event to deliver
+     */
+    boolean dispatchNext(ExampleListener[] listeners) {
+        long position = head;
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            return false;
+        }
+
+        ExampleEvent event = slots[index];
+        for (ExampleListener listener : listeners) {
+            ExampleListeners.deliver(listener, event);
+        }
+        event.clear();
+
+        sequences.lazySet(index, position + slots.length);
+        head = position + 1;
+        return true;
+    }
+
+    long published() {
+        return tail.get();
+    }
+
+    long dispatched() {
+        return head;
+    }
+
+    long dropped() {
+        return dropped.get();
+    }
+}
@@ -2,10 +2,7 @@ package j8spec;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Predicate;
-
-import static java.util.Collections.emptyList;
-import static java.util.Collections.unmodifiableList;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * Example ready to be executed.
@@ -13,24 +10,20 @@ import static java.util.Collections.unmodifiableList;
  */
 public final class Example implements UnsafeBlock, Comparable<Example> {
 
-    private static final Predicate<UnsafeBlock> ALL = whatever -> true;
-
     static final class Builder {
 
-        private List<String> containerDescriptions = emptyList();
+        private DescriptionPath containerDescriptions = DescriptionPath.ROOT;
         private String description;
-        private List<VarInitializer<?>> varInitializers = emptyList();
-        private List<UnsafeBlock> beforeAllHooks = emptyList();
-        private List<UnsafeBlock> beforeEachHooks = emptyList();
-        private List<UnsafeBlock> afterEachHooks = emptyList();
-        private List<UnsafeBlock> afterAllHooks = emptyList();
+        private ExampleGroup group;
         private UnsafeBlock block;
         private Class<? extends Throwable> expectedException;
         private long timeout;
         private TimeUnit timeoutUnit;
         private Rank rank;
+        private Tags tags = Tags.NONE;
+        private long maxAllocatedBytes = -1;
 
-        Builder containerDescriptions(List<String> containerDescriptions) {
+        Builder containerDescriptions(DescriptionPath containerDescriptions) {
             this.containerDescriptions = containerDescriptions;
             return this;
         }
@@ -40,28 +33,8 @@ public final class Example implements UnsafeBlock, Comparable<Example> {
             return this;
         }
 
-        Builder varInitializers(List<VarInitializer<?>> varInitializers) {
-            this.varInitializers = varInitializers;
-            return this;
-        }
-
-        Builder beforeAllHooks(List<UnsafeBlock> beforeAllHooks) {
-            this.beforeAllHooks = beforeAllHooks;
-            return this;
-        }
-
-        Builder beforeEachHooks(List<UnsafeBlock> beforeHooks) {
-            this.beforeEachHooks = beforeHooks;
-            return this;
-        }
-
-        Builder afterEachHooks(List<UnsafeBlock> afterHooks) {
-            this.afterEachHooks = afterHooks;
-            return this;
-        }
-
-        Builder afterAllHooks(List<UnsafeBlock> afterAllHooks) {
-            this.afterAllHooks = afterAllHooks;
+        Builder group(ExampleGroup group) {
+            this.group = group;
             return this;
         }
 
@@ -80,8 +53,18 @@ public final class Example implements UnsafeBlock, Comparable<Example> {
             return this;
         }
 
+        Builder tags(Tags tags) {
+            this.tags = tags;
+            return this;
+        }
+
         Builder ignored() {
+            this.group = null;
             this.block = NOOP;
+            this.expectedException = null;
+            this.timeout = 0;
+            this.timeoutUnit = null;
+            this.maxAllocatedBytes = -1;
             return this;
         }
 
@@ -91,114 +74,223 @@ public final class Example implements UnsafeBlock, Comparable<Example> {
             return this;
         }
 
+        Builder maxAllocatedBytes(long maxAllocatedBytes) {
+            this.maxAllocatedBytes = maxAllocatedBytes;
+            return this;
+        }
+
         Example build() {
+            if (group != null) {
+                group.register();
+            }
+
             return new Example(
                 containerDescriptions,
                 description,
-                varInitializers,
-                beforeAllHooks,
-                beforeEachHooks,
-                afterEachHooks,
-                afterAllHooks,
+                group,
                 block,
                 expectedException,
                 timeout,
                 timeoutUnit,
-                rank
+                rank,
+                tags,
+                maxAllocatedBytes
             );
         }
     }
 
-    private final List<String> containerDescriptions;
+    private final DescriptionPath containerDescriptions;
     private final String description;
-    private final List<VarInitializer<?>> varInitializers;
-    private final List<UnsafeBlock> beforeAllHooks;
-    private final List<UnsafeBlock> beforeEachHooks;
-    private final List<UnsafeBlock> afterEachHooks;
-    private final List<UnsafeBlock> afterAllHooks;
+    private final ExampleGroup group;
     private final UnsafeBlock block;
     private final Class<? extends Throwable> expectedException;
     private final long timeout;
     private final TimeUnit timeoutUnit;
     private final Rank rank;
+    private final Tags tags;
+    private final long maxAllocatedBytes;
 
-    private Example previous;
-    private Example next;
-    private boolean beforeAllHookFailed = false;
+    /**
+     * <code>null</code> before the first run, the thread running this example, {@link #FINISHED} or
+     * {@link #ABANDONED}.
+     */
+    private volatile Object run;
+
+    private static final AtomicReferenceFieldUpdater<Example, Object> RUN =
+        AtomicReferenceFieldUpdater.newUpdater(Example.class, Object.class, "run");
+    private static final Object FINISHED = new Object();
+    private static final Object ABANDONED = new Object();
 
     private Example(
-        List<String> containerDescriptions,
+        DescriptionPath containerDescriptions,
         String description,
-        List<VarInitializer<?>> varInitializers,
-        List<UnsafeBlock> beforeAllHooks,
-        List<UnsafeBlock> beforeEachHooks,
-        List<UnsafeBlock> afterEachHooks,
-        List<UnsafeBlock> afterAllHooks,
+        ExampleGroup group,
         UnsafeBlock block,
         Class<? extends Throwable> expectedException,
         long timeout,
         TimeUnit timeoutUnit,
-        Rank rank
+        Rank rank,
+        Tags tags,
+        long maxAllocatedBytes
     ) {
-        this.containerDescriptions = unmodifiableList(containerDescriptions);
+        this.containerDescriptions = containerDescriptions;
         this.description = description;
-        this.varInitializers = unmodifiableList(varInitializers);
-        this.beforeAllHooks = unmodifiableList(beforeAllHooks);
-        this.beforeEachHooks = unmodifiableList(beforeEachHooks);
-        this.afterEachHooks = unmodifiableList(afterEachHooks);
-        this.afterAllHooks = unmodifiableList(afterAllHooks);
+        this.group = group;
         this.block = block;
         this.expectedException = expectedException;
         this.timeout = timeout;
         this.timeoutUnit = timeoutUnit;
         this.rank = rank;
+        this.tags = tags;
+        this.maxAllocatedBytes = maxAllocatedBytes;
     }
 
-    void previous(Example example) { previous = example; }
-
-    void next(Example example) { next = example; }
-
     @Override
     public int compareTo(Example block) { return rank.compareTo(block.rank); }
 
     /**
      * Runs this example and associated hooks.
+     *
+     * <p>
+     *     "Before all" hooks run only for the first example of their group to be executed, and "after all"
+     *     hooks only for the last one, even when the examples of a group are executed by different threads.
+     * </p>
+     *
+     * <p>
+     *     If the spec isolates its variables, they have their own values while this example runs, initialized from the
+     *     values assigned by "before all" hooks.
+     * </p>
+     *
+     * <p>
+     *     The bytes allocated by the block are measured when the example has an allocation budget or when example
+     *     listeners are registered, and reported with the {@link ExampleEvent.Type#EXAMPLE_FINISHED} event. If they
+     *     cannot be measured, like on virtual threads, an example with an allocation budget fails with
+     *     {@link Exceptions.AllocationBudgetNotChecked} after running.
+     * </p>
+     *
      * @since 2.0.0
      */
     @Override
     public void tryToExecute() throws Throwable {
-        Exceptions.Collector collector = new Exceptions.Collector();
-
-        varInitializers.forEach(collector::executeOrSkip);
-        collector.haltOnFailure();
-
-        beforeAllHooks.stream().filter(firstChance()).forEach(collector::executeOrSkip);
-        beforeAllHookFailed = !collector.isEmpty();
-        collector.haltOnFailure();
-
-        beforeEachHooks.forEach(collector::executeOrSkip);
-        collector.haltOnFailure();
+        Object previousRun = run;
+        if (previousRun == ABANDONED) {
+            return;
+        }
+        Thread thread = Thread.currentThread();
+        boolean tracked = (previousRun == null || previousRun == FINISHED)
+            && RUN.compareAndSet(this, previousRun, thread);
+
+        boolean listened = ExampleListeners.active();
+        boolean measured = listened || shouldFailOnAllocationBudget();
+        long allocatedBytes = -1;
+        Throwable failure = null;
+
+        boolean isolatedVars = group != null && group.isolatesVars();
+        VarScope previousVarScope = isolatedVars ? VarScope.enterExample(group.varScope()) : VarScope.enter(null);
+        try {
+            if (group != null) {
+                failure = group.prepareExample();
+            }
+
+            if (listened) {
+                ExampleListeners.exampleStarted(this);
+            }
+
+            if (group != null) {
+                failure = group.setUpExample(failure);
+            }
+
+            if (failure == null) {
+                if (measured) {
+                    long start = ThreadAllocation.start();
+                    failure = Exceptions.execute(block, null);
+                    allocatedBytes = ThreadAllocation.allocatedBytesSince(start);
+                    failure = checkAllocationBudget(allocatedBytes, failure);
+                } else {
+                    failure = Exceptions.execute(block, null);
+                }
+                if (group != null) {
+                    failure = group.executeAfterEachHooks(failure);
+                }
+            }
+
+            boolean abandoned = tracked && !RUN.compareAndSet(this, thread, FINISHED);
+            if (group != null && !abandoned) {
+                group.releaseVars();
+            }
+
+            if (listened) {
+                boolean expected = expectedException != null && expectedException.isInstance(failure);
+                ExampleListeners.exampleFinished(this, expected ? null : failure, allocatedBytes);
+            }
+
+            if (group != null && !abandoned) {
+                failure = group.exampleFinished(failure);
+            }
+        } finally {
+            if (isolatedVars) {
+                VarScope.exitExample(previousVarScope);
+            } else {
+                VarScope.restore(previousVarScope);
+            }
+        }
 
-        collector.execute(block);
-        afterEachHooks.forEach(collector::execute);
-        afterAllHooks.stream().filter(lastChance()).forEach(collector::execute);
-        collector.haltOnFailure();
+        if (failure != null) {
+            throw failure;
+        }
     }
 
-    private Predicate<UnsafeBlock> firstChance() {
-        return previous == null ? ALL : hook -> !previous.hasBeforeAllHook(hook);
+    /**
+     * Tells the example groups of this example that it will not run, so their "after all" hooks run once their other
+     * examples have finished. Must only be called for examples that have not run and will not run, and only before
+     * any example of their groups has run: "after all" hooks only run for groups whose "before all" hooks ran, so no
+     * hook runs here and there is no failure to report.
+     *
+     * @since 3.1.0
+     */
+    public void discard() {
+        if (group != null) {
+            group.exampleFinished(null);
+        }
     }
 
-    private Predicate<UnsafeBlock> lastChance() {
-        return next == null ? ALL : hook -> !next.hasAfterAllHook(hook);
+    boolean belongsToGroup() {
+        return group != null;
     }
 
-    private boolean hasBeforeAllHook(UnsafeBlock hook) {
-        return beforeAllHooks.contains(hook) || previous != null && previous.hasBeforeAllHook(hook);
+    /**
+     * Stops waiting for this example, for instance because it timed out, even though it may still be running. Its
+     * example groups count it as finished right away, so their "after all" hooks run once their other examples have
+     * finished, and it does not finish them again if it completes later. It does not run if it has not started yet.
+     *
+     * @return failure thrown by the "after all" hooks run when this example was the last one of its groups,
+     *     <code>null</code> if there is none
+     * @since 3.1.0
+     */
+    public Throwable abandon() {
+        Object currentRun = run;
+        while (currentRun != ABANDONED && currentRun != FINISHED) {
+            if (RUN.compareAndSet(this, currentRun, ABANDONED)) {
+                return group == null ? null : group.exampleFinished(null);
+            }
+            currentRun = run;
+        }
+        return null;
     }
 
-    private boolean hasAfterAllHook(UnsafeBlock hook) {
-        return afterAllHooks.contains(hook) || next != null && next.hasAfterAllHook(hook);
+    private Throwable checkAllocationBudget(long allocatedBytes, Throwable failure) {
+        if (failure != null || !shouldFailOnAllocationBudget()) {
+            return failure;
+        }
+
+        if (allocatedBytes < 0) {
+            return new Exceptions.AllocationBudgetNotChecked();
+        }
+
+        if (allocatedBytes > maxAllocatedBytes) {
+            return new Exceptions.AllocationBudgetExceeded(allocatedBytes, maxAllocatedBytes);
+        }
+        return null;
     }
 
     /**
@@ -217,11 +309,7 @@ public final class Example implements UnsafeBlock, Comparable<Example> {
      * @return <code>true</code> if this example should be ignored, <code>false</code> otherwise
      * @since 2.0.0
      */
-    public boolean shouldBeIgnored() { return block == NOOP || hasAnyBeforeAllHookFailed(); }
-
-    private boolean hasAnyBeforeAllHookFailed() {
-        return beforeAllHookFailed || previous != null && previous.hasAnyBeforeAllHookFailed();
-    }
+    public boolean shouldBeIgnored() { return block == NOOP || group != null && group.hasBeforeAllHookFailed(); }
 
     /**
      * @return exception class this example is expected to throw, <code>null</code> otherwise
@@ -257,4 +345,25 @@ public final class Example implements UnsafeBlock, Comparable<Example> {
      * @since 3.0.0
      */
     public TimeUnit timeoutUnit() { return timeoutUnit; }
+
+    /**
+     * @return <code>true</code> if this example is expected to fail if its block allocates too much,
+     * <code>false</code> otherwise
+     * @see #maxAllocatedBytes()
+     * @since 3.1.0
+     */
+    public boolean shouldFailOnAllocationBudget() { return maxAllocatedBytes >= 0; }
+
+    /**
+     * @return maximum number of bytes the block of this example may allocate, <code>-1</code> if unlimited
+     * @see #shouldFailOnAllocationBudget()
+     * @since 3.1.0
+     */
+    public long maxAllocatedBytes() { return maxAllocatedBytes; }
+
+    /**
+     * @return tags of this example, including the tags of its example groups
+     * @since 3.1.0
+     */
+    public Tags tags() { return tags; }
 }
@@ -1,47 +1,91 @@
 package j8spec;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.SortedSet;
-import java.util.TreeSet;
 
 import static j8spec.BlockExecutionFlag.DEFAULT;
-
+import static j8spec.BlockExecutionOrder.RANDOM;
+
+/**
+ * Builds examples in execution order while the definition tree is visited.
+ *
+ * <p>
+ *     Examples are ready as soon as they are visited, unless they belong to a random order group: in this case they
+ *     are ready, sorted, when the outermost random order group ends. Examples rejected by the selector are skipped
+ *     before anything is built for them, and example groups are only built for their first selected example.
+ * </p>
+ *
+ * <p>
+ *     The last example built that belongs to an example group is held back until another one is built or the whole
+ *     definition tree has been visited. Its example groups, and all the outer groups still being visited, then have
+ *     at least one example left to run, so running examples while they are built does not run "after all" hooks
+ *     before the last example of their group.
+ * </p>
+ */
 final class ExampleBuilder extends BlockDefinitionVisitor {
 
-    private static List<UnsafeBlock> asHooks(Deque<List<UnsafeBlock>> hookQueue) {
-        List<UnsafeBlock> result = new LinkedList<>();
-        hookQueue.forEach(result::addAll);
-        return result;
-    }
+    private static final class GroupFrame {
+        private final GroupFrame parent;
+        private final ExampleGroup.Builder builder;
+        private ExampleGroup group;
+
+        GroupFrame(GroupFrame parent, DescriptionPath descriptions, boolean isolatedVars) {
+            this.parent = parent;
+            this.builder = new ExampleGroup.Builder().descriptions(descriptions).isolatedVars(isolatedVars);
+        }
+
+        ExampleGroup.Builder builder() {
+            if (group != null) {
+                throw new IllegalStateException("hooks must be defined before examples and inner groups");
+            }
+            return builder;
+        }
 
-    private static List<VarInitializer<?>> allVarInitializers(Deque<List<VarInitializer<?>>> varInitializers) {
-        List<VarInitializer<?>> result = new LinkedList<>();
-        varInitializers.forEach(result::addAll);
-        return result;
+        ExampleGroup group() {
+            if (group == null) {
+                Deque<GroupFrame> frames = new ArrayDeque<>();
+                for (GroupFrame frame = this; frame != null && frame.group == null; frame = frame.parent) {
+                    frames.addFirst(frame);
+                }
+                for (GroupFrame frame : frames) {
+                    frame.group = frame.builder.parent(frame.parent == null ? null : frame.parent.group).build();
+                }
+            }
+            return group;
+        }
     }
 
     private final BlockExecutionStrategy executionStrategy;
-    private final Deque<String> descriptions = new LinkedList<>();
+    private final ExampleSelector selector;
+    private final Deque<DescriptionPath> descriptions = new LinkedList<>();
     private final Deque<BlockExecutionFlag> executionFlags = new LinkedList<>();
-    private final Deque<List<VarInitializer<?>>> varInitializers = new LinkedList<>();
-    private final Deque<List<UnsafeBlock>> beforeAllBlocks = new LinkedList<>();
-    private final Deque<List<UnsafeBlock>> beforeEachBlocks = new LinkedList<>();
-    private final Deque<List<UnsafeBlock>> afterEachBlocks = new LinkedList<>();
-    private final Deque<List<UnsafeBlock>> afterAllBlocks = new LinkedList<>();
+    private final Deque<BlockExecutionOrder> executionOrders = new LinkedList<>();
+    private final Deque<Tags> tags = new LinkedList<>();
+    private final Deque<GroupFrame> groups = new LinkedList<>();
     private final RankGenerator rankGenerator = new RankGenerator();
+    private boolean isolatedVars;
 
-    private final SortedSet<Example> examples = new TreeSet<>();
+    private final Deque<Example> examples = new ArrayDeque<>();
+    private final Deque<Example> heldExamples = new ArrayDeque<>();
+    private final List<Example> randomOrderExamples = new ArrayList<>();
+    private int randomOrderGroupDepth = -1;
 
     ExampleBuilder(BlockExecutionStrategy executionStrategy) {
+        this(executionStrategy, ExampleSelector.ALL);
+    }
+
+    ExampleBuilder(BlockExecutionStrategy executionStrategy, ExampleSelector selector) {
         this.executionStrategy = executionStrategy;
+        this.selector = selector;
     }
 
     @Override
     BlockDefinitionVisitor startGroup(ExampleGroupConfiguration config) {
-        descriptions.addLast(config.description());
+        DescriptionPath containerDescriptions = descriptions.isEmpty() ? DescriptionPath.ROOT : descriptions.peekLast();
+        descriptions.addLast(containerDescriptions.child(config.description()));
 
         if (executionFlags.isEmpty() || executionFlags.peekLast().equals(DEFAULT)) {
             executionFlags.addLast(config.executionFlag());
@@ -49,11 +93,22 @@ final class ExampleBuilder extends BlockDefinitionVisitor {
             executionFlags.addLast(executionFlags.peekLast());
         }
 
-        varInitializers.addLast(new LinkedList<>());
-        beforeAllBlocks.addLast(new LinkedList<>());
-        beforeEachBlocks.addLast(new LinkedList<>());
-        afterEachBlocks.addFirst(new LinkedList<>());
-        afterAllBlocks.addFirst(new LinkedList<>());
+        if (config.executionOrder() == BlockExecutionOrder.DEFAULT && !executionOrders.isEmpty()) {
+            executionOrders.addLast(executionOrders.peekLast());
+        } else {
+            executionOrders.addLast(config.executionOrder());
+        }
+
+        tags.addLast(tags.isEmpty() ? config.tags() : tags.peekLast().union(config.tags()));
+
+        if (randomOrderGroupDepth < 0 && executionOrders.peekLast() == RANDOM) {
+            randomOrderGroupDepth = executionOrders.size();
+        }
+
+        if (groups.isEmpty()) {
+            isolatedVars = config.isolatedVars();
+        }
+        groups.addLast(new GroupFrame(groups.peekLast(), descriptions.peekLast(), isolatedVars));
 
         rankGenerator.pushLevel(config);
 
@@ -61,87 +116,123 @@ final class ExampleBuilder extends BlockDefinitionVisitor {
     }
 
     @Override
-    <T> BlockDefinitionVisitor varInitializer(Var<T> var, UnsafeFunction<T> initFunction) {
-        varInitializers.peekLast().add(new VarInitializer<>(var, initFunction));
+    <T> BlockDefinitionVisitor varInitializer(VarConfiguration config, Var<T> var, UnsafeFunction<T> initFunction) {
+        groups.peekLast().builder().varInitializer(new VarInitializer<>(var, initFunction, config.initializationMode()));
         return this;
     }
 
     @Override
     BlockDefinitionVisitor beforeAll(UnsafeBlock block) {
-        beforeAllBlocks.peekLast().add(block);
+        groups.peekLast().builder().beforeAllHook(block);
         return this;
     }
 
     @Override
     BlockDefinitionVisitor beforeEach(UnsafeBlock block) {
-        beforeEachBlocks.peekLast().add(block);
+        groups.peekLast().builder().beforeEachHook(block);
         return this;
     }
 
     @Override
     BlockDefinitionVisitor afterEach(UnsafeBlock block) {
-        afterEachBlocks.peekFirst().add(block);
+        groups.peekLast().builder().afterEachHook(block);
         return this;
     }
 
     @Override
     BlockDefinitionVisitor afterAll(UnsafeBlock block) {
-        afterAllBlocks.peekFirst().add(block);
+        groups.peekLast().builder().afterAllHook(block);
         return this;
     }
 
     @Override
     BlockDefinitionVisitor example(ExampleConfiguration config, UnsafeBlock block) {
+        Tags exampleTags = tags.peekLast().union(config.tags());
+        if (!selector.selects(descriptions.peekLast(), config.description(), exampleTags)) {
+            rankGenerator.skip();
+            return this;
+        }
+
         Example.Builder builder = new Example.Builder()
-            .containerDescriptions(new LinkedList<>(descriptions))
+            .containerDescriptions(descriptions.peekLast())
             .description(config.description())
-            .rank(rankGenerator.generate());
+            .rank(rankGenerator.generate())
+            .tags(exampleTags);
 
         if (executionStrategy.shouldBeIgnored(config.executionFlag(), executionFlags.peekLast())) {
             builder.ignored();
         } else {
             builder
-                .varInitializers(allVarInitializers(varInitializers))
-                .beforeAllHooks(asHooks(beforeAllBlocks))
-                .beforeEachHooks(asHooks(beforeEachBlocks))
-                .afterEachHooks(asHooks(afterEachBlocks))
-                .afterAllHooks(asHooks(afterAllBlocks))
+                .group(groups.peekLast().group())
                 .block(block)
                 .expectedException(config.expectedException())
-                .timeout(config.timeout(), config.timeoutUnit());
+                .timeout(config.timeout(), config.timeoutUnit())
+                .maxAllocatedBytes(config.maxAllocatedBytes());
         }
 
-        examples.add(builder.build());
+        if (randomOrderGroupDepth < 0) {
+            ready(builder.build());
+        } else {
+            randomOrderExamples.add(builder.build());
+        }
 
         return this;
     }
 
     @Override
     BlockDefinitionVisitor endGroup() {
+        if (executionOrders.size() == randomOrderGroupDepth) {
+            randomOrderExamples.sort(null);
+            randomOrderExamples.forEach(this::ready);
+            randomOrderExamples.clear();
+            randomOrderGroupDepth = -1;
+        }
+
         descriptions.removeLast();
         executionFlags.removeLast();
-        varInitializers.removeLast();
-        beforeAllBlocks.removeLast();
-        beforeEachBlocks.removeLast();
-        afterEachBlocks.removeFirst();
-        afterAllBlocks.removeFirst();
+        executionOrders.removeLast();
+        tags.removeLast();
+        groups.removeLast();
         rankGenerator.popLevel();
+
+        if (groups.isEmpty()) {
+            releaseHeldExamples();
+        }
         return this;
     }
 
-    List<Example> build() {
-        ArrayList<Example> result = new ArrayList<>(examples);
-
-        if (result.size() > 1) {
-            for (int i = 0; i < result.size() - 1; i++) {
-                result.get(i).next(result.get(i + 1));
-            }
+    /**
+     * Makes the examples held back available, when the definition tree has been visited or cannot be visited further.
+     */
+    void releaseHeldExamples() {
+        examples.addAll(heldExamples);
+        heldExamples.clear();
+    }
 
-            for (int j = result.size() - 1; j > 0; j--) {
-                result.get(j).previous(result.get(j - 1));
-            }
+    private void ready(Example example) {
+        if (example.belongsToGroup()) {
+            releaseHeldExamples();
+            heldExamples.addLast(example);
+        } else if (heldExamples.isEmpty()) {
+            examples.addLast(example);
+        } else {
+            heldExamples.addLast(example);
         }
+    }
 
-        return result;
+    boolean hasNextExample() {
+        return !examples.isEmpty();
+    }
+
+    Example nextExample() {
+        return examples.removeFirst();
+    }
+
+    List<Example> build() {
+        List<Example> builtExamples = new ArrayList<>(examples);
+        builtExamples.addAll(heldExamples);
+        examples.clear();
+        heldExamples.clear();
+        return builtExamples;
     }
 }
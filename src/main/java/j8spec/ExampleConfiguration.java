@@ -21,6 +21,8 @@ public final class ExampleConfiguration {
         private Class<? extends Throwable> expectedException;
         private int timeout;
         private TimeUnit timeoutUnit;
+        private Tags tags = Tags.NONE;
+        private long maxAllocatedBytes = -1;
 
         Builder description(String description) {
             this.description = description;
@@ -53,6 +55,32 @@ public final class ExampleConfiguration {
             return this;
         }
 
+        /**
+         * Tags the new example, in addition to the tags of its example groups.
+         *
+         * @param tags tag names
+         * @return this
+         * @since 3.1.0
+         */
+        public Builder tags(String... tags) {
+            this.tags = Tags.of(tags);
+            return this;
+        }
+
+        /**
+         * Specifies the maximum number of bytes the block of the new example may allocate in the thread running it.
+         * Hooks are not taken into account. The example fails if it allocates more, and also if its allocations cannot
+         * be measured, like on virtual threads, reporting that the budget could not be checked.
+         *
+         * @param maxAllocatedBytes allocation budget in bytes, <code>0</code> for allocation-free examples
+         * @return this
+         * @since 3.1.0
+         */
+        public Builder maxAllocatedBytes(long maxAllocatedBytes) {
+            this.maxAllocatedBytes = maxAllocatedBytes;
+            return this;
+        }
+
         Builder executionFlag(BlockExecutionFlag executionFlag) {
             this.executionFlag = executionFlag;
             return this;
@@ -64,7 +92,9 @@ public final class ExampleConfiguration {
                 executionFlag,
                 expectedException,
                 timeout,
-                timeoutUnit
+                timeoutUnit,
+                tags,
+                maxAllocatedBytes
             );
         }
     }
@@ -74,19 +104,25 @@ public final class ExampleConfiguration {
     private final Class<? extends Throwable> expectedException;
     private final long timeout;
     private final TimeUnit timeoutUnit;
+    private final Tags tags;
+    private final long maxAllocatedBytes;
 
     private ExampleConfiguration(
         String description,
         BlockExecutionFlag executionFlag,
         Class<? extends Throwable> expectedException,
         long timeout,
-        TimeUnit timeoutUnit
+        TimeUnit timeoutUnit,
+        Tags tags,
+        long maxAllocatedBytes
     ) {
         this.description = description;
         this.executionFlag = executionFlag;
         this.expectedException = expectedException;
         this.timeout = timeout;
         this.timeoutUnit = timeoutUnit;
+        this.tags = tags;
+        this.maxAllocatedBytes = maxAllocatedBytes;
     }
 
     String description() {
@@ -108,4 +144,12 @@ public final class ExampleConfiguration {
     TimeUnit timeoutUnit() {
         return timeoutUnit;
     }
+
+    Tags tags() {
+        return tags;
+    }
+
+    long maxAllocatedBytes() {
+        return maxAllocatedBytes;
+    }
 }
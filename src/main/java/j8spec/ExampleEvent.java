@@ -0,0 +1,191 @@
+package j8spec;
+
+import java.util.List;
+
+/**
+ * Event of the lifecycle of examples and example groups, delivered to {@link ExampleListener} objects.
+ *
+ * <p>
+ *     Event objects are reused: they are only valid while the listener handles them, so listeners must copy what
+ *     they need to keep.
+ * </p>
+ *
+ * <p>
+ *     Events nest: an example group starts before its first example starts and finishes after its last example
+ *     finishes. The variable initializers and "before all" hooks of an example run before it starts, and "after all"
+ *     hooks after it finishes.
+ * </p>
+ *
+ * @since 3.1.0
+ */
+public final class ExampleEvent {
+
+    /**
+     * Event types.
+     * @since 3.1.0
+     */
+    public enum Type {
+        /**
+         * The spec class is about to be instantiated to define its examples.
+         */
+        SPEC_DEFINITION_STARTED,
+
+        /**
+         * The spec class has defined its examples, or failed to.
+         */
+        SPEC_DEFINITION_FINISHED,
+
+        /**
+         * The first example of an example group is about to run.
+         */
+        GROUP_STARTED,
+
+        /**
+         * The last example of an example group and the "after all" hooks of the group have run.
+         */
+        GROUP_FINISHED,
+
+        /**
+         * A variable initializer or hook is about to run.
+         */
+        HOOK_STARTED,
+
+        /**
+         * A variable initializer or hook has run.
+         */
+        HOOK_FINISHED,
+
+        /**
+         * An example is about to run, once its variable initializers and "before all" hooks have run.
+         */
+        EXAMPLE_STARTED,
+
+        /**
+         * An example failed, published right before {@link #EXAMPLE_FINISHED}.
+         */
+        EXAMPLE_FAILED,
+
+        /**
+         * An example and its "after each" hooks have run.
+         */
+        EXAMPLE_FINISHED
+    }
+
+    /**
+     * Hook types.
+     * @since 3.1.0
+     */
+    public enum Hook {
+        /**
+         * Variable initializer, defined with <code>let</code>.
+         */
+        VAR_INITIALIZER,
+
+        /**
+         * "Before all" hook.
+         */
+        BEFORE_ALL,
+
+        /**
+         * "Before each" hook.
+         */
+        BEFORE_EACH,
+
+        /**
+         * "After each" hook.
+         */
+        AFTER_EACH,
+
+        /**
+         * "After all" hook.
+         */
+        AFTER_ALL
+    }
+
+    private Type type;
+    private List<String> groupDescriptions;
+    private Hook hook;
+    private Example example;
+    private Throwable failure;
+    private long nanoTime;
+    private Thread thread;
+    private long allocatedBytes;
+
+    ExampleEvent() {}
+
+    void set(
+        Type type,
+        List<String> groupDescriptions,
+        Hook hook,
+        Example example,
+        Throwable failure,
+        long allocatedBytes
+    ) {
+        this.type = type;
+        this.groupDescriptions = groupDescriptions;
+        this.hook = hook;
+        this.example = example;
+        this.failure = failure;
+        this.nanoTime = System.nanoTime();
+        this.thread = Thread.currentThread();
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    void clear() {
+        this.groupDescriptions = null;
+        this.example = null;
+        this.failure = null;
+        this.thread = null;
+    }
+
+    /**
+     * @return event type
+     * @since 3.1.0
+     */
+    public Type type() { return type; }
+
+    /**
+     * @return descriptions of the example group and all its outer groups, starting with the spec class name, for
+     * group and hook events - for example events, descriptions of the groups that contain the example - for spec
+     * definition events, the spec class name
+     * @since 3.1.0
+     */
+    public List<String> groupDescriptions() { return groupDescriptions; }
+
+    /**
+     * @return hook type, for hook events, <code>null</code> otherwise
+     * @since 3.1.0
+     */
+    public Hook hook() { return hook; }
+
+    /**
+     * @return example, for example events, <code>null</code> otherwise
+     * @since 3.1.0
+     */
+    public Example example() { return example; }
+
+    /**
+     * @return failure of the spec definition, example or hook, <code>null</code> if it succeeded or for other events
+     * @since 3.1.0
+     */
+    public Throwable failure() { return failure; }
+
+    /**
+     * @return value of {@link System#nanoTime()} when the event happened
+     * @since 3.1.0
+     */
+    public long nanoTime() { return nanoTime; }
+
+    /**
+     * @return thread that ran the example or hook
+     * @since 3.1.0
+     */
+    public Thread thread() { return thread; }
+
+    /**
+     * @return bytes allocated by the example block, for {@link Type#EXAMPLE_FINISHED} events, <code>-1</code> if
+     * they were not measured or for other events
+     * @since 3.1.0
+     */
+    public long allocatedBytes() { return allocatedBytes; }
+}
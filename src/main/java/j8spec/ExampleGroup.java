@@ -0,0 +1,483 @@
+package j8spec;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runtime state shared by all examples of an example group.
+ *
+ * <p>
+ *     Hooks and variable initializers are stored once per group and linked to the outer group, so examples only keep a
+ *     reference to their innermost group. The hooks of the outer groups are resolved when the group is compiled, so
+ *     running an example never walks the other examples nor recurses through the outer groups. Everything that runs
+ *     before an example (variable initializers, "before all" and "before each" hooks) is compiled into a single chain
+ *     per group, shared by all of its examples. Groups are compiled when their first example runs, so reading a spec
+ *     only to describe its examples does not pay for it. It also makes sure "before all" and "after all" hooks run
+ *     exactly once no matter the order or the threads used to execute the examples. A "before all" hook failure is
+ *     propagated to the inner groups as soon as it happens, so checking if an example should be skipped is a single
+ *     read.
+ * </p>
+ *
+ * <p>
+ *     By default, variables have a single value shared by all examples and hooks. When variables are isolated, each
+ *     group has its own variable scope, where its variable initializers run before its "before all" hooks, and only
+ *     lazy variable initializers run again for each example, in the example scope.
+ * </p>
+ */
+final class ExampleGroup {
+
+    static final class Builder {
+
+        private ExampleGroup parent;
+        private List<String> descriptions = DescriptionPath.ROOT;
+        private boolean isolatedVars;
+        private final List<VarInitializer<?>> varInitializers = new ArrayList<>();
+        private final List<UnsafeBlock> beforeAllHooks = new ArrayList<>();
+        private final List<UnsafeBlock> beforeEachHooks = new ArrayList<>();
+        private final List<UnsafeBlock> afterEachHooks = new ArrayList<>();
+        private final List<UnsafeBlock> afterAllHooks = new ArrayList<>();
+
+        Builder parent(ExampleGroup parent) {
+            this.parent = parent;
+            return this;
+        }
+
+        Builder descriptions(List<String> descriptions) {
+            this.descriptions = descriptions;
+            return this;
+        }
+
+        Builder isolatedVars(boolean isolatedVars) {
+            this.isolatedVars = isolatedVars;
+            return this;
+        }
+
+        Builder varInitializer(VarInitializer<?> varInitializer) {
+            this.varInitializers.add(varInitializer);
+            return this;
+        }
+
+        Builder beforeAllHook(UnsafeBlock beforeAllHook) {
+            this.beforeAllHooks.add(beforeAllHook);
+            return this;
+        }
+
+        Builder beforeEachHook(UnsafeBlock beforeEachHook) {
+            this.beforeEachHooks.add(beforeEachHook);
+            return this;
+        }
+
+        Builder afterEachHook(UnsafeBlock afterEachHook) {
+            this.afterEachHooks.add(afterEachHook);
+            return this;
+        }
+
+        Builder afterAllHook(UnsafeBlock afterAllHook) {
+            this.afterAllHooks.add(afterAllHook);
+            return this;
+        }
+
+        ExampleGroup build() {
+            return new ExampleGroup(
+                parent,
+                descriptions,
+                isolatedVars,
+                varInitializers,
+                beforeAllHooks,
+                beforeEachHooks,
+                afterEachHooks,
+                afterAllHooks
+            );
+        }
+    }
+
+    private static final class BeforeAllHooksOutcome {
+        private final Throwable failure;
+
+        BeforeAllHooksOutcome(Throwable failure) {
+            this.failure = failure;
+        }
+    }
+
+    /**
+     * Hook chains and variable scope of a group, compiled when the first example of the group runs. Running an
+     * example is split in two chains, so listeners see the variable initializers and the "before all" hooks before
+     * the example starts: they are set up for the group, even though shared variables are initialized again for each
+     * example.
+     */
+    private static final class Compiled {
+        private final ExampleGroup[] path;
+        private final VarScope varScope;
+        private final VarInitializer<?>[] varInitializers;
+        private final VarInitializer<?>[] lazyVarInitializers;
+        private final UnsafeBlock[] varInitializerBlocks;
+        private final UnsafeBlock[] groupVarInitializerBlocks;
+        private final UnsafeBlock[] beforeEachHooks;
+        private final UnsafeBlock[] afterEachHooks;
+        private final UnsafeBlock[] beforeAllHooks;
+        private final UnsafeBlock[] afterAllHooks;
+        private final UnsafeBlock[] preparationChain;
+        private final boolean listened;
+
+        Compiled(ExampleGroup group, Compiled parent) {
+            this.listened = ExampleListeners.active();
+            this.path = pathTo(parent, group);
+            this.varScope = group.isolatedVars ? new VarScope(parent == null ? null : parent.varScope) : null;
+            this.varInitializers = concat(
+                parent == null ? NO_VAR_INITIALIZERS : parent.varInitializers,
+                group.ownVarInitializers
+            );
+            this.lazyVarInitializers = Arrays.stream(this.varInitializers)
+                .filter(VarInitializer::initializedLazily)
+                .toArray(VarInitializer<?>[]::new);
+            VarInitializer<?>[] exampleVarInitializers = group.isolatedVars
+                ? Arrays.stream(group.ownVarInitializers)
+                    .filter(VarInitializer::initializedLazily)
+                    .toArray(VarInitializer<?>[]::new)
+                : group.ownVarInitializers;
+            this.groupVarInitializerBlocks = group.isolatedVars
+                ? listened(group.ownVarInitializers, ExampleEvent.Hook.VAR_INITIALIZER, group.descriptions)
+                : NO_BLOCKS;
+            this.varInitializerBlocks = concat(
+                parent == null ? NO_BLOCKS : parent.varInitializerBlocks,
+                listened(exampleVarInitializers, ExampleEvent.Hook.VAR_INITIALIZER, group.descriptions)
+            );
+            this.beforeEachHooks = concat(
+                parent == null ? NO_BLOCKS : parent.beforeEachHooks,
+                listened(group.ownBeforeEachHooks, ExampleEvent.Hook.BEFORE_EACH, group.descriptions)
+            );
+            this.afterEachHooks = concat(
+                listened(group.ownAfterEachHooks, ExampleEvent.Hook.AFTER_EACH, group.descriptions),
+                parent == null ? NO_BLOCKS : parent.afterEachHooks
+            );
+            this.beforeAllHooks = listened(group.beforeAllHooks, ExampleEvent.Hook.BEFORE_ALL, group.descriptions);
+            this.afterAllHooks = listened(group.afterAllHooks, ExampleEvent.Hook.AFTER_ALL, group.descriptions);
+            this.preparationChain = concat(varInitializerBlocks, new UnsafeBlock[]{group::tryToExecuteBeforeAllHooks});
+        }
+
+        private UnsafeBlock[] listened(UnsafeBlock[] hooks, ExampleEvent.Hook hook, List<String> descriptions) {
+            if (!listened) {
+                return Arrays.copyOf(hooks, hooks.length, UnsafeBlock[].class);
+            }
+
+            UnsafeBlock[] listenedHooks = new UnsafeBlock[hooks.length];
+            for (int i = 0; i < hooks.length; i++) {
+                listenedHooks[i] = new ListenedHook(hook, descriptions, hooks[i]);
+            }
+            return listenedHooks;
+        }
+    }
+
+    /**
+     * Hook that notifies {@link ExampleListeners} when it starts and finishes.
+     */
+    private static final class ListenedHook implements UnsafeBlock {
+        private final ExampleEvent.Hook hook;
+        private final List<String> descriptions;
+        private final UnsafeBlock block;
+
+        ListenedHook(ExampleEvent.Hook hook, List<String> descriptions, UnsafeBlock block) {
+            this.hook = hook;
+            this.descriptions = descriptions;
+            this.block = block;
+        }
+
+        @Override
+        public void tryToExecute() throws Throwable {
+            ExampleListeners.hookStarted(hook, descriptions);
+            try {
+                block.tryToExecute();
+            } catch (Throwable failure) {
+                ExampleListeners.hookFinished(hook, descriptions, failure);
+                throw failure;
+            }
+            ExampleListeners.hookFinished(hook, descriptions, null);
+        }
+    }
+
+    private static final BeforeAllHooksOutcome SUCCEEDED = new BeforeAllHooksOutcome(null);
+    private static final UnsafeBlock[] NO_BLOCKS = new UnsafeBlock[0];
+    private static final VarInitializer<?>[] NO_VAR_INITIALIZERS = new VarInitializer<?>[0];
+
+    private final ExampleGroup parent;
+    private final List<String> descriptions;
+    private final boolean isolatedVars;
+    private final VarInitializer<?>[] ownVarInitializers;
+    private final UnsafeBlock[] ownBeforeEachHooks;
+    private final UnsafeBlock[] ownAfterEachHooks;
+    private final UnsafeBlock[] beforeAllHooks;
+    private final UnsafeBlock[] afterAllHooks;
+    private final List<ExampleGroup> innerGroups = new ArrayList<>();
+    private final AtomicInteger pendingExamples = new AtomicInteger();
+    private final Lock beforeAllHooksLock = new ReentrantLock();
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private volatile Compiled compiled;
+    private volatile BeforeAllHooksOutcome beforeAllHooksOutcome;
+    private volatile boolean beforeAllHookFailed = false;
+    private volatile boolean beforeAllHookOfThisOrOuterGroupFailed = false;
+
+    private ExampleGroup(
+        ExampleGroup parent,
+        List<String> descriptions,
+        boolean isolatedVars,
+        List<VarInitializer<?>> varInitializers,
+        List<UnsafeBlock> beforeAllHooks,
+        List<UnsafeBlock> beforeEachHooks,
+        List<UnsafeBlock> afterEachHooks,
+        List<UnsafeBlock> afterAllHooks
+    ) {
+        this.parent = parent;
+        this.descriptions = descriptions;
+        this.isolatedVars = isolatedVars;
+        this.ownVarInitializers = varInitializers.toArray(NO_VAR_INITIALIZERS);
+        this.ownBeforeEachHooks = beforeEachHooks.toArray(NO_BLOCKS);
+        this.ownAfterEachHooks = afterEachHooks.toArray(NO_BLOCKS);
+        this.beforeAllHooks = beforeAllHooks.toArray(NO_BLOCKS);
+        this.afterAllHooks = afterAllHooks.toArray(NO_BLOCKS);
+
+        if (parent != null) {
+            parent.innerGroups.add(this);
+        }
+    }
+
+    private static ExampleGroup[] pathTo(Compiled parent, ExampleGroup group) {
+        if (parent == null) {
+            return new ExampleGroup[]{group};
+        }
+        ExampleGroup[] path = Arrays.copyOf(parent.path, parent.path.length + 1);
+        path[parent.path.length] = group;
+        return path;
+    }
+
+    private static <T> T[] concat(T[] first, T[] second) {
+        T[] blocks = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, blocks, first.length, second.length);
+        return blocks;
+    }
+
+    void register() {
+        for (ExampleGroup group = this; group != null; group = group.parent) {
+            if (group.pendingExamples.getAndIncrement() != 0) {
+                return;
+            }
+        }
+    }
+
+    private Compiled compiled() {
+        Compiled compiled = this.compiled;
+        if (compiled != null) {
+            return compiled;
+        }
+
+        Deque<ExampleGroup> groups = new ArrayDeque<>();
+        for (ExampleGroup group = this; group != null && group.compiled == null; group = group.parent) {
+            groups.addFirst(group);
+        }
+        for (ExampleGroup group : groups) {
+            group.compileOnce();
+        }
+        return this.compiled;
+    }
+
+    private synchronized void compileOnce() {
+        if (compiled == null) {
+            compiled = new Compiled(this, parent == null ? null : parent.compiled);
+        }
+    }
+
+    /**
+     * Notifies listeners that the groups of the example start, if they have not started yet, then runs the variable
+     * initializers and the "before all" hooks that have not run yet.
+     *
+     * @return failure of the first variable initializer or hook that failed, <code>null</code> otherwise
+     */
+    Throwable prepareExample() {
+        Compiled compiled = compiled();
+        if (compiled.listened) {
+            for (ExampleGroup group : compiled.path) {
+                if (!group.started.get() && group.started.compareAndSet(false, true)) {
+                    ExampleListeners.groupStarted(group.descriptions);
+                }
+            }
+        }
+
+        Throwable failure = null;
+        for (UnsafeBlock block : compiled.preparationChain) {
+            failure = Exceptions.executeOrSkip(block, failure);
+        }
+        return failure;
+    }
+
+    /**
+     * @param failure failure of {@link #prepareExample()}, skipping the "before each" hooks if not <code>null</code>
+     * @return failure of the first hook that failed, or <code>failure</code>
+     */
+    Throwable setUpExample(Throwable failure) {
+        for (UnsafeBlock beforeEachHook : compiled().beforeEachHooks) {
+            failure = Exceptions.executeOrSkip(beforeEachHook, failure);
+        }
+        return failure;
+    }
+
+    void releaseVars() {
+        for (VarInitializer<?> varInitializer : compiled().lazyVarInitializers) {
+            varInitializer.exampleFinished();
+        }
+    }
+
+    Throwable executeAfterEachHooks(Throwable failure) {
+        for (UnsafeBlock afterEachHook : compiled().afterEachHooks) {
+            failure = Exceptions.execute(afterEachHook, failure);
+        }
+        return failure;
+    }
+
+    void tryToExecuteBeforeAllHooks() throws Throwable {
+        for (ExampleGroup group : compiled().path) {
+            group.tryToExecuteOwnBeforeAllHooks();
+        }
+    }
+
+    private void tryToExecuteOwnBeforeAllHooks() throws Throwable {
+        BeforeAllHooksOutcome outcome = beforeAllHooksOutcome;
+        if (outcome == SUCCEEDED) {
+            return;
+        }
+
+        boolean executedByAnotherExample = true;
+        if (outcome == null) {
+            if (beforeAllHooks.length == 0 && compiled().groupVarInitializerBlocks.length == 0) {
+                beforeAllHooksOutcome = SUCCEEDED;
+                return;
+            }
+
+            beforeAllHooksLock.lock();
+            try {
+                outcome = beforeAllHooksOutcome;
+                if (outcome == null) {
+                    Throwable failure = null;
+                    VarScope previousVarScope = VarScope.enter(compiled().varScope);
+                    try {
+                        for (UnsafeBlock varInitializer : compiled().groupVarInitializerBlocks) {
+                            failure = Exceptions.executeOrSkip(varInitializer, failure);
+                        }
+                        for (UnsafeBlock beforeAllHook : compiled().beforeAllHooks) {
+                            failure = Exceptions.executeOrSkip(beforeAllHook, failure);
+                        }
+                    } finally {
+                        VarScope.restore(previousVarScope);
+                    }
+                    outcome = failure == null ? SUCCEEDED : new BeforeAllHooksOutcome(failure);
+                    beforeAllHookFailed = failure != null;
+                    if (beforeAllHookFailed) {
+                        propagateBeforeAllHookFailure();
+                    }
+                    beforeAllHooksOutcome = outcome;
+                    executedByAnotherExample = false;
+                }
+            } finally {
+                beforeAllHooksLock.unlock();
+            }
+        }
+
+        if (outcome.failure == null) {
+            return;
+        }
+
+        if (executedByAnotherExample) {
+            throw new Exceptions.BeforeAllHookFailed(outcome.failure);
+        }
+
+        throw outcome.failure;
+    }
+
+    Throwable exampleFinished(Throwable failure) {
+        for (ExampleGroup group = this; group != null; group = group.parent) {
+            if (!group.lastExampleFinished()) {
+                return failure;
+            }
+
+            for (VarInitializer<?> varInitializer : group.ownVarInitializers) {
+                varInitializer.groupFinished();
+            }
+
+            if (group.beforeAllHooksOutcome != null && !group.beforeAllHookFailed) {
+                failure = group.executeAfterAllHooks(failure);
+            }
+
+            if (group.started.get()) {
+                ExampleListeners.groupFinished(group.descriptions);
+            }
+        }
+        return failure;
+    }
+
+    private Throwable executeAfterAllHooks(Throwable failure) {
+        VarScope previousVarScope = VarScope.enter(compiled().varScope);
+        try {
+            for (UnsafeBlock afterAllHook : compiled().afterAllHooks) {
+                failure = Exceptions.execute(afterAllHook, failure);
+            }
+            return failure;
+        } finally {
+            VarScope.restore(previousVarScope);
+        }
+    }
+
+    boolean isolatesVars() {
+        return isolatedVars;
+    }
+
+    /**
+     * @return variable scope of this group, <code>null</code> if variables are not isolated
+     */
+    VarScope varScope() {
+        return compiled().varScope;
+    }
+
+    private boolean lastExampleFinished() {
+        if (beforeAllHookOfThisOrOuterGroupFailed) {
+            return drainPendingExamples() > 0;
+        }
+        return pendingExamples.decrementAndGet() == 0;
+    }
+
+    /**
+     * Examples of a group whose "before all" hook failed are skipped, so they never finish: the first example to
+     * finish after the failure finishes the whole subtree, and its parent counts it as one finished inner group.
+     *
+     * @return pending examples of this group before it was drained
+     */
+    private int drainPendingExamples() {
+        int pending = pendingExamples.getAndSet(0);
+        Deque<ExampleGroup> groups = new ArrayDeque<>(innerGroups);
+        while (!groups.isEmpty()) {
+            ExampleGroup group = groups.removeLast();
+            group.pendingExamples.set(0);
+            groups.addAll(group.innerGroups);
+        }
+        return pending;
+    }
+
+    private void propagateBeforeAllHookFailure() {
+        Deque<ExampleGroup> groups = new ArrayDeque<>();
+        groups.add(this);
+        while (!groups.isEmpty()) {
+            ExampleGroup group = groups.removeLast();
+            group.beforeAllHookOfThisOrOuterGroupFailed = true;
+            groups.addAll(group.innerGroups);
+        }
+    }
+
+    boolean hasBeforeAllHookFailed() {
+        return beforeAllHookOfThisOrOuterGroupFailed;
+    }
+}
@@ -9,11 +9,17 @@ import static j8spec.BlockExecutionOrder.RANDOM;
  */
 public final class ExampleGroupConfiguration {
 
-    static final class Builder {
+    /**
+     * Example group configuration builder.
+     * @since 3.1.0
+     */
+    public static final class Builder {
         private String description;
         private BlockExecutionFlag executionFlag = BlockExecutionFlag.DEFAULT;
         private BlockExecutionOrder executionOrder = BlockExecutionOrder.DEFAULT;
         private Long seed;
+        private Tags tags = Tags.NONE;
+        private boolean isolatedVars;
 
         Builder description(String description) {
             this.description = description;
@@ -44,12 +50,31 @@ public final class ExampleGroupConfiguration {
             return this;
         }
 
+        Builder isolatedVars() {
+            this.isolatedVars = true;
+            return this;
+        }
+
+        /**
+         * Tags the new example group and all its examples and inner groups.
+         *
+         * @param tags tag names
+         * @return this
+         * @since 3.1.0
+         */
+        public Builder tags(String... tags) {
+            this.tags = Tags.of(tags);
+            return this;
+        }
+
         ExampleGroupConfiguration build() {
             return new ExampleGroupConfiguration(
                 description,
                 executionFlag,
                 executionOrder,
-                seed
+                seed,
+                tags,
+                isolatedVars
             );
         }
     }
@@ -58,17 +83,23 @@ public final class ExampleGroupConfiguration {
     private final BlockExecutionFlag executionFlag;
     private final BlockExecutionOrder executionOrder;
     private final Long seed;
+    private final Tags tags;
+    private final boolean isolatedVars;
 
     private ExampleGroupConfiguration(
         String description,
         BlockExecutionFlag executionFlag,
         BlockExecutionOrder executionOrder,
-        Long seed
+        Long seed,
+        Tags tags,
+        boolean isolatedVars
     ) {
         this.description = description;
         this.executionFlag = executionFlag;
         this.executionOrder = executionOrder;
         this.seed = seed;
+        this.tags = tags;
+        this.isolatedVars = isolatedVars;
     }
 
     String description() {
@@ -86,4 +117,12 @@ public final class ExampleGroupConfiguration {
     Long seed() {
         return seed;
     }
+
+    Tags tags() {
+        return tags;
+    }
+
+    boolean isolatedVars() {
+        return isolatedVars;
+    }
 }
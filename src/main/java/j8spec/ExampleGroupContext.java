@@ -1,10 +1,25 @@
 package j8spec;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Stack;
 
 final class ExampleGroupContext {
 
     private final Stack<ExampleGroupDefinition> stack = new Stack<>();
+    private final BlockExecutionStrategySelector strategySelector = new BlockExecutionStrategySelector();
+    private final DuplicatedBlockValidator validator = new DuplicatedBlockValidator();
+    private final TagRegistry tagRegistry = new TagRegistry();
+    private final ExampleSelector selector;
+    private int varCount = 0;
+
+    ExampleGroupContext() {
+        this(ExampleSelector.ALL);
+    }
+
+    ExampleGroupContext(ExampleSelector selector) {
+        this.selector = selector;
+    }
 
     void switchTo(ExampleGroupDefinition current) {
         stack.push(current);
@@ -17,4 +32,37 @@ final class ExampleGroupContext {
     ExampleGroupDefinition current() {
         return stack.peek();
     }
+
+    BlockExecutionStrategySelector strategySelector() {
+        return strategySelector;
+    }
+
+    DuplicatedBlockValidator validator() {
+        return validator;
+    }
+
+    TagRegistry tagRegistry() {
+        return tagRegistry;
+    }
+
+    ExampleSelector selector() {
+        return selector;
+    }
+
+    boolean mayContainSelectedExamples(String innerGroupDescription, Tags innerGroupTags) {
+        if (selector == ExampleSelector.ALL) {
+            return true;
+        }
+
+        List<String> groupDescriptions = new ArrayList<>(stack.size() + 1);
+        for (ExampleGroupDefinition group : stack) {
+            groupDescriptions.add(group.description());
+        }
+        groupDescriptions.add(innerGroupDescription);
+        return selector.mayContainSelectedExamples(groupDescriptions, innerGroupTags);
+    }
+
+    int nextVarId() {
+        return varCount++;
+    }
 }
@@ -1,6 +1,7 @@
 package j8spec;
 
 import j8spec.annotation.DefinedOrder;
+import j8spec.annotation.IsolatedVars;
 import j8spec.annotation.RandomOrder;
 
 import java.util.LinkedList;
@@ -13,6 +14,7 @@ final class ExampleGroupDefinition implements BlockDefinition {
 
     private final ExampleGroupConfiguration config;
     private final ExampleGroupContext context;
+    private final Tags tags;
     private final List<BlockDefinition> blockDefinitions = new LinkedList<>();
     private final List<BlockDefinition> hooks = new LinkedList<>();
     private final List<BlockDefinition> varInitializers = new LinkedList<>();
@@ -26,8 +28,13 @@ final class ExampleGroupDefinition implements BlockDefinition {
             .executionFlag(DEFAULT);
 
         configureExecutionOrder(specClass, configBuilder);
+        if (specClass.isAnnotationPresent(IsolatedVars.class)) {
+            configBuilder.isolatedVars();
+        }
 
-        ExampleGroupDefinition group = new ExampleGroupDefinition(configBuilder.build(), context);
+        ExampleGroupConfiguration config = configBuilder.build();
+        ExampleGroupDefinition group = new ExampleGroupDefinition(config, context, config.tags());
+        context.validator().startGroup(config);
         context.switchTo(group);
 
         try {
@@ -37,6 +44,7 @@ final class ExampleGroupDefinition implements BlockDefinition {
         } catch (Exception e) {
             throw new Exceptions.SpecInitializationFailed(specClass, e);
         }
+        context.validator().endGroup();
 
         return group;
     }
@@ -52,23 +60,37 @@ final class ExampleGroupDefinition implements BlockDefinition {
         }
     }
 
-    private ExampleGroupDefinition(ExampleGroupConfiguration config, ExampleGroupContext context) {
+    private ExampleGroupDefinition(ExampleGroupConfiguration config, ExampleGroupContext context, Tags tags) {
         this.config = config;
         this.context = context;
+        this.tags = tags;
     }
 
     void addGroup(ExampleGroupConfiguration config, SafeBlock block) {
-        ExampleGroupDefinition exampleGroupDefinition = new ExampleGroupDefinition(config, context);
-
+        context.validator().startGroup(config);
+        ExampleGroupDefinition exampleGroupDefinition = new ExampleGroupDefinition(
+            config,
+            context,
+            tags.union(config.tags())
+        );
         blockDefinitions.add(exampleGroupDefinition);
 
+        if (!context.mayContainSelectedExamples(config.description(), exampleGroupDefinition.tags)) {
+            context.validator().endGroup();
+            return;
+        }
+
+        context.strategySelector().startGroup(config);
+
         context.switchTo(exampleGroupDefinition);
         block.execute();
         context.restore();
+        context.validator().endGroup();
     }
 
-    <T> void addVarInitializer(Var<T> var, UnsafeFunction<T> initFunction) {
-        varInitializers.add(new BlockDefinitions.VarInitializer<>(var, initFunction));
+    <T> void addVarInitializer(VarConfiguration config, Var<T> var, UnsafeFunction<T> initFunction) {
+        context.validator().varInitializer(config, var, initFunction);
+        varInitializers.add(new BlockDefinitions.VarInitializer<>(config, var, initFunction));
     }
 
     void addBeforeAll(UnsafeBlock beforeAllBlock) {
@@ -88,17 +110,30 @@ final class ExampleGroupDefinition implements BlockDefinition {
     }
 
     void addExample(ExampleConfiguration exampleConfig, UnsafeBlock block) {
+        context.validator().example(exampleConfig, block);
         blockDefinitions.add(new BlockDefinitions.Example(exampleConfig, block));
+        context.strategySelector().example(exampleConfig, block);
     }
 
     @Override
     public void accept(BlockDefinitionVisitor visitor) {
+        acceptHooks(visitor);
+        visitAll(visitor, blockDefinitions);
+        visitor.endGroup();
+    }
+
+    void acceptHooks(BlockDefinitionVisitor visitor) {
         visitor.startGroup(config);
 
         visitAll(visitor, varInitializers);
         visitAll(visitor, hooks);
-        visitAll(visitor, blockDefinitions);
+    }
 
-        visitor.endGroup();
+    String description() {
+        return config.description();
+    }
+
+    List<BlockDefinition> blockDefinitions() {
+        return blockDefinitions;
     }
 }
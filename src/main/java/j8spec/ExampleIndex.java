@@ -0,0 +1,209 @@
+package j8spec;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Index of the examples of a spec by description path.
+ *
+ * <p>
+ *     Paths follow the format used by {@link PathSelector}: the descriptions of the example groups that contain an
+ *     example, followed by the example description, separated by <code>/</code> and without the spec class name.
+ *     Examples are stored in a trie with one node per description, so queries only visit the nodes that lead to
+ *     matching examples, instead of every example of the spec.
+ * </p>
+ *
+ * @since 3.1.0
+ */
+public final class ExampleIndex {
+
+    private static final class Node {
+        private final int id;
+        private final String description;
+        private final Map<String, Node> children = new LinkedHashMap<>();
+        private Example example;
+        private int position;
+
+        Node(int id, String description) {
+            this.id = id;
+            this.description = description;
+        }
+    }
+
+    private static final class Step {
+        private final Node node;
+        private final int segment;
+
+        Step(Node node, int segment) {
+            this.node = node;
+            this.segment = segment;
+        }
+    }
+
+    private static final String ANY_PATH = "**";
+
+    private final Node root = new Node(0, null);
+    private int nodeCount = 1;
+
+    private ExampleIndex(Iterable<Example> examples) {
+        Map<List<String>, Node> groupNodes = new IdentityHashMap<>();
+        int position = 0;
+        for (Example example : examples) {
+            Node groupNode = groupNodes.computeIfAbsent(example.containerDescriptions(), this::groupNode);
+            Node exampleNode = child(groupNode, example.description());
+            exampleNode.example = example;
+            exampleNode.position = position++;
+        }
+    }
+
+    /**
+     * @param examples examples of a spec, as returned by {@link J8Spec#read(Class)}
+     * @return index of the given examples
+     * @since 3.1.0
+     */
+    public static ExampleIndex of(Iterable<Example> examples) {
+        return new ExampleIndex(examples);
+    }
+
+    private Node groupNode(List<String> containerDescriptions) {
+        Node node = root;
+        for (int i = 1; i < containerDescriptions.size(); i++) {
+            node = child(node, containerDescriptions.get(i));
+        }
+        return node;
+    }
+
+    private Node child(Node node, String description) {
+        return node.children.computeIfAbsent(description, key -> new Node(nodeCount++, key));
+    }
+
+    /**
+     * Finds the examples inside the given path.
+     *
+     * @param path path of an example group or example
+     * @return examples inside the path, in the order they were indexed
+     * @since 3.1.0
+     */
+    public List<Example> withPrefix(String path) {
+        Node node = root;
+        for (String description : path.split("/")) {
+            node = node.children.get(description);
+            if (node == null) {
+                return Collections.emptyList();
+            }
+        }
+
+        List<Node> matches = new ArrayList<>();
+        Deque<Node> nodes = new ArrayDeque<>();
+        nodes.add(node);
+        while (!nodes.isEmpty()) {
+            Node current = nodes.removeLast();
+            if (current.example != null) {
+                matches.add(current);
+            }
+            nodes.addAll(current.children.values());
+        }
+        return examplesOf(matches);
+    }
+
+    /**
+     * Finds the examples whose path matches the given glob pattern.
+     *
+     * <p>
+     *     Each segment of the pattern matches one description: <code>*</code> matches any sequence of characters
+     *     and <code>?</code> any single character. A <code>**</code> segment matches any number of descriptions,
+     *     including none. For instance, <code>Orders/&#42;&#42;/refund*</code> matches all examples starting with
+     *     "refund" at any level inside the "Orders" example group.
+     * </p>
+     *
+     * @param glob glob pattern
+     * @return examples matching the pattern, in the order they were indexed
+     * @since 3.1.0
+     */
+    public List<Example> matching(String glob) {
+        String[] segments = glob.split("/");
+        Pattern[] patterns = new Pattern[segments.length];
+        for (int i = 0; i < segments.length; i++) {
+            if (!ANY_PATH.equals(segments[i]) && isPattern(segments[i])) {
+                patterns[i] = compile(segments[i]);
+            }
+        }
+
+        List<Node> matches = new ArrayList<>();
+        Set<Long> visited = new HashSet<>();
+        Deque<Step> steps = new ArrayDeque<>();
+        steps.add(new Step(root, 0));
+        while (!steps.isEmpty()) {
+            Step step = steps.removeLast();
+            Node node = step.node;
+            int segment = step.segment;
+            if (!visited.add((long) node.id * (segments.length + 1) + segment)) {
+                continue;
+            }
+
+            if (segment == segments.length) {
+                if (node.example != null) {
+                    matches.add(node);
+                }
+            } else if (ANY_PATH.equals(segments[segment])) {
+                steps.add(new Step(node, segment + 1));
+                for (Node child : node.children.values()) {
+                    steps.add(new Step(child, segment));
+                }
+            } else if (patterns[segment] == null) {
+                Node child = node.children.get(segments[segment]);
+                if (child != null) {
+                    steps.add(new Step(child, segment + 1));
+                }
+            } else {
+                for (Node child : node.children.values()) {
+                    if (patterns[segment].matcher(child.description).matches()) {
+                        steps.add(new Step(child, segment + 1));
+                    }
+                }
+            }
+        }
+        return examplesOf(matches);
+    }
+
+    private static boolean isPattern(String segment) {
+        return segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0;
+    }
+
+    private static Pattern compile(String segment) {
+        StringBuilder regex = new StringBuilder();
+        int start = 0;
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c == '*' || c == '?') {
+                if (i > start) {
+                    regex.append(Pattern.quote(segment.substring(start, i)));
+                }
+                regex.append(c == '*' ? ".*" : ".");
+                start = i + 1;
+            }
+        }
+        if (start < segment.length()) {
+            regex.append(Pattern.quote(segment.substring(start)));
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static List<Example> examplesOf(List<Node> nodes) {
+        nodes.sort((a, b) -> Integer.compare(a.position, b.position));
+        List<Example> examples = new ArrayList<>(nodes.size());
+        for (Node node : nodes) {
+            examples.add(node.example);
+        }
+        return examples;
+    }
+}
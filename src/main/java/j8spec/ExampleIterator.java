@@ -0,0 +1,67 @@
+package j8spec;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Builds examples while they are iterated, walking the definition tree of a spec only as far as needed.
+ */
+final class ExampleIterator implements Iterator<Example> {
+
+    private final ExampleBuilder builder;
+    private final Deque<Iterator<BlockDefinition>> groups = new ArrayDeque<>();
+    private RuntimeException failure;
+
+    ExampleIterator(ExampleGroupDefinition root, BlockExecutionStrategy executionStrategy, ExampleSelector selector) {
+        this.builder = new ExampleBuilder(executionStrategy, selector);
+        startGroup(root);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!builder.hasNextExample() && !groups.isEmpty()) {
+            if (failure != null) {
+                throw failure;
+            }
+
+            try {
+                visitNextBlock();
+            } catch (RuntimeException e) {
+                failure = e;
+                builder.releaseHeldExamples();
+            }
+        }
+        return builder.hasNextExample();
+    }
+
+    @Override
+    public Example next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return builder.nextExample();
+    }
+
+    private void visitNextBlock() {
+        Iterator<BlockDefinition> blockDefinitions = groups.peekLast();
+        if (!blockDefinitions.hasNext()) {
+            groups.removeLast();
+            builder.endGroup();
+            return;
+        }
+
+        BlockDefinition blockDefinition = blockDefinitions.next();
+        if (blockDefinition instanceof ExampleGroupDefinition) {
+            startGroup((ExampleGroupDefinition) blockDefinition);
+        } else {
+            blockDefinition.accept(builder);
+        }
+    }
+
+    private void startGroup(ExampleGroupDefinition group) {
+        group.acceptHooks(builder);
+        groups.addLast(group.blockDefinitions().iterator());
+    }
+}
@@ -0,0 +1,32 @@
+package j8spec;
+
+/**
+ * Listener of the lifecycle of examples and example groups.
+ *
+ * <p>
+ *     Listeners are registered with {@link ExampleListeners#register(ExampleListener)}, or found with
+ *     {@link java.util.ServiceLoader} when they are listed in
+ *     <code>META-INF/services/j8spec.ExampleListener</code>. By default, events are delivered by a dispatcher thread,
+ *     so slow listeners do not stall the threads running examples.
+ * </p>
+ *
+ * @since 3.1.0
+ */
+@FunctionalInterface
+public interface ExampleListener {
+
+    /**
+     * @param event event to handle, valid only until this method returns
+     * @since 3.1.0
+     */
+    void onEvent(ExampleEvent event);
+
+    /**
+     * @return <code>true</code> to handle events in the thread where they happen, in strict order, as soon as they
+     * happen - the listener should be fast and thread-safe
+     * @since 3.1.0
+     */
+    default boolean synchronous() {
+        return false;
+    }
+}
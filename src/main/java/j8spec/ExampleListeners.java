@@ -0,0 +1,221 @@
+package j8spec;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Registry of {@link ExampleListener} objects.
+ *
+ * <p>
+ *     Asynchronous listeners get events through a bounded lock-free ring buffer read by a daemon dispatcher thread,
+ *     started when the first asynchronous listener is registered and parked while there are no events.
+ *     The threads running examples never wait for them: if the buffer is full, events are dropped (see
+ *     {@link #droppedEvents()}). The buffer size can be set with the system property
+ *     <code>j8spec.listeners.buffer</code> (default 8192). Synchronous listeners get events in the thread where they
+ *     happen. Anything thrown by a listener is logged and does not stop the delivery of the next events.
+ * </p>
+ *
+ * <p>
+ *     Listeners should be registered before examples run: hook events are only emitted for example groups whose
+ *     first example starts after a listener is registered. When no listener is registered, running an example
+ *     does not create any event.
+ * </p>
+ *
+ * @since 3.1.0
+ */
+public final class ExampleListeners {
+
+    private static final Logger LOG = Logger.getLogger("j8spec.ExampleListeners");
+    private static final ExampleListener[] NO_LISTENERS = new ExampleListener[0];
+    private static final ThreadLocal<ExampleEvent> SYNCHRONOUS_EVENTS = ThreadLocal.withInitial(ExampleEvent::new);
+
+    private static volatile ExampleListener[] synchronousListeners = NO_LISTENERS;
+    private static volatile ExampleListener[] asynchronousListeners = NO_LISTENERS;
+    private static volatile boolean active;
+    private static volatile EventRingBuffer buffer;
+    private static Thread dispatcher;
+
+    static {
+        for (ExampleListener listener : ServiceLoader.load(ExampleListener.class)) {
+            register(listener);
+        }
+        ExampleTimings.registerFromSystemProperty();
+        JfrExampleListener.registerFromSystemProperty();
+    }
+
+    private ExampleListeners() {}
+
+    /**
+     * @param listener listener to be notified of the events of all examples executed from now on
+     * @since 3.1.0
+     */
+    public static synchronized void register(ExampleListener listener) {
+        if (listener.synchronous()) {
+            synchronousListeners = add(synchronousListeners, listener);
+        } else {
+            startDispatcher();
+            asynchronousListeners = add(asynchronousListeners, listener);
+        }
+        active = true;
+    }
+
+    /**
+     * @param listener listener that should not be notified anymore
+     * @since 3.1.0
+     */
+    public static synchronized void unregister(ExampleListener listener) {
+        synchronousListeners = remove(synchronousListeners, listener);
+        asynchronousListeners = remove(asynchronousListeners, listener);
+        active = synchronousListeners.length > 0 || asynchronousListeners.length > 0;
+    }
+
+    /**
+     * Waits until all events published so far have been delivered to the asynchronous listeners.
+     *
+     * @since 3.1.0
+     */
+    public static void flush() {
+        EventRingBuffer buffer = ExampleListeners.buffer;
+        if (buffer == null) {
+            return;
+        }
+
+        long published = buffer.published();
+        while (buffer.dispatched() < published) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+    }
+
+    /**
+     * @return number of events not delivered to asynchronous listeners because the buffer was full
+     * @since 3.1.0
+     */
+    public static long droppedEvents() {
+        EventRingBuffer buffer = ExampleListeners.buffer;
+        return buffer == null ? 0 : buffer.dropped();
+    }
+
+    private static void startDispatcher() {
+        if (dispatcher != null) {
+            return;
+        }
+
+        int capacity = Integer.getInteger("j8spec.listeners.buffer", 8192);
+        EventRingBuffer ringBuffer = new EventRingBuffer(capacity);
+        dispatcher = new Thread(() -> dispatch(ringBuffer), "j8spec-listener-dispatcher");
+        dispatcher.setDaemon(true);
+        ringBuffer.dispatcher(dispatcher);
+        dispatcher.start();
+        buffer = ringBuffer;
+    }
+
+    private static void dispatch(EventRingBuffer ringBuffer) {
+        while (true) {
+            if (!ringBuffer.dispatchNext(asynchronousListeners)) {
+                LockSupport.park(ringBuffer);
+            }
+        }
+    }
+
+    static void deliver(ExampleListener listener, ExampleEvent event) {
+        try {
+            listener.onEvent(event);
+        } catch (Throwable e) {
+            LOG.log(Level.WARNING, "example listener failed", e);
+        }
+    }
+
+    private static ExampleListener[] add(ExampleListener[] listeners, ExampleListener listener) {
+        ExampleListener[] result = Arrays.copyOf(listeners, listeners.length + 1);
+        result[listeners.length] = listener;
+        return result;
+    }
+
+    private static ExampleListener[] remove(ExampleListener[] listeners, ExampleListener listener) {
+        return Arrays.stream(listeners).filter(l -> l != listener).toArray(ExampleListener[]::new);
+    }
+
+    static boolean active() {
+        return active;
+    }
+
+    static void specDefinitionStarted(List<String> specDescriptions) {
+        publish(ExampleEvent.Type.SPEC_DEFINITION_STARTED, specDescriptions, null, null, null);
+    }
+
+    static void specDefinitionFinished(List<String> specDescriptions, Throwable failure) {
+        publish(ExampleEvent.Type.SPEC_DEFINITION_FINISHED, specDescriptions, null, null, failure);
+    }
+
+    static void groupStarted(List<String> groupDescriptions) {
+        publish(ExampleEvent.Type.GROUP_STARTED, groupDescriptions, null, null, null);
+    }
+
+    static void groupFinished(List<String> groupDescriptions) {
+        publish(ExampleEvent.Type.GROUP_FINISHED, groupDescriptions, null, null, null);
+    }
+
+    static void hookStarted(ExampleEvent.Hook hook, List<String> groupDescriptions) {
+        publish(ExampleEvent.Type.HOOK_STARTED, groupDescriptions, hook, null, null);
+    }
+
+    static void hookFinished(ExampleEvent.Hook hook, List<String> groupDescriptions, Throwable failure) {
+        publish(ExampleEvent.Type.HOOK_FINISHED, groupDescriptions, hook, null, failure);
+    }
+
+    static void exampleStarted(Example example) {
+        publish(ExampleEvent.Type.EXAMPLE_STARTED, example.containerDescriptions(), null, example, null);
+    }
+
+    static void exampleFinished(Example example, Throwable failure, long allocatedBytes) {
+        if (failure != null) {
+            publish(ExampleEvent.Type.EXAMPLE_FAILED, example.containerDescriptions(), null, example, failure);
+        }
+        publish(
+            ExampleEvent.Type.EXAMPLE_FINISHED,
+            example.containerDescriptions(),
+            null,
+            example,
+            null,
+            allocatedBytes
+        );
+    }
+
+    private static void publish(
+        ExampleEvent.Type type,
+        List<String> groupDescriptions,
+        ExampleEvent.Hook hook,
+        Example example,
+        Throwable failure
+    ) {
+        publish(type, groupDescriptions, hook, example, failure, -1);
+    }
+
+    private static void publish(
+        ExampleEvent.Type type,
+        List<String> groupDescriptions,
+        ExampleEvent.Hook hook,
+        Example example,
+        Throwable failure,
+        long allocatedBytes
+    ) {
+        ExampleListener[] listeners = synchronousListeners;
+        if (listeners.length > 0) {
+            ExampleEvent event = SYNCHRONOUS_EVENTS.get();
+            event.set(type, groupDescriptions, hook, example, failure, allocatedBytes);
+            for (ExampleListener listener : listeners) {
+                deliver(listener, event);
+            }
+            event.clear();
+        }
+
+        if (asynchronousListeners.length > 0) {
+            buffer.publish(type, groupDescriptions, hook, example, failure, allocatedBytes);
+        }
+    }
+}
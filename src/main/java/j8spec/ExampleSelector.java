@@ -0,0 +1,106 @@
+package j8spec;
+
+import java.util.List;
+
+/**
+ * Selects the examples of a spec that should be built.
+ *
+ * <p>
+ *     Examples that are not selected are skipped while the spec is read: they never become {@link Example} objects
+ *     and the hooks of example groups without selected examples never run. Example groups that cannot contain
+ *     selected examples are skipped before their definition blocks run.
+ * </p>
+ *
+ * @since 3.1.0
+ */
+@FunctionalInterface
+public interface ExampleSelector {
+
+    /**
+     * Selects all examples.
+     */
+    ExampleSelector ALL = (containerDescriptions, description) -> true;
+
+    /**
+     * @param containerDescriptions descriptions of the example groups that contain the example, starting with the
+     *                              spec class name - the same list instance is shared by the examples of a group
+     * @param description example description
+     * @return <code>true</code> if the example should be built
+     */
+    boolean selects(List<String> containerDescriptions, String description);
+
+    /**
+     * Same as {@link #selects(List, String)}, for selectors that also look at the tags of the example.
+     *
+     * @param containerDescriptions descriptions of the example groups that contain the example, starting with the
+     *                              spec class name
+     * @param description example description
+     * @param tags tags of the example, including the tags of the example groups that contain it
+     * @return <code>true</code> if the example should be built
+     * @since 3.1.0
+     */
+    default boolean selects(List<String> containerDescriptions, String description, Tags tags) {
+        return selects(containerDescriptions, description);
+    }
+
+    /**
+     * Checks if an example group may contain selected examples, before its definition block runs.
+     *
+     * @param groupDescriptions descriptions of the example group and the groups that contain it, starting with the
+     *                          spec class name
+     * @return <code>false</code> to skip the definition block of the example group, as none of its examples can be
+     * selected
+     * @since 3.1.0
+     */
+    default boolean mayContainSelectedExamples(List<String> groupDescriptions) {
+        return true;
+    }
+
+    /**
+     * Same as {@link #mayContainSelectedExamples(List)}, for selectors that also look at the tags of the group.
+     *
+     * @param groupDescriptions descriptions of the example group and the groups that contain it, starting with the
+     *                          spec class name
+     * @param tags tags of the example group, including the tags of the groups that contain it
+     * @return <code>false</code> to skip the definition block of the example group, as none of its examples can be
+     * selected
+     * @since 3.1.0
+     */
+    default boolean mayContainSelectedExamples(List<String> groupDescriptions, Tags tags) {
+        return mayContainSelectedExamples(groupDescriptions);
+    }
+
+    /**
+     * @param other another selector
+     * @return selector that selects only the examples selected by both this and the other selector
+     * @since 3.1.0
+     */
+    default ExampleSelector and(ExampleSelector other) {
+        ExampleSelector self = this;
+        return new ExampleSelector() {
+            @Override
+            public boolean selects(List<String> containerDescriptions, String description) {
+                return self.selects(containerDescriptions, description)
+                    && other.selects(containerDescriptions, description);
+            }
+
+            @Override
+            public boolean selects(List<String> containerDescriptions, String description, Tags tags) {
+                return self.selects(containerDescriptions, description, tags)
+                    && other.selects(containerDescriptions, description, tags);
+            }
+
+            @Override
+            public boolean mayContainSelectedExamples(List<String> groupDescriptions) {
+                return self.mayContainSelectedExamples(groupDescriptions)
+                    && other.mayContainSelectedExamples(groupDescriptions);
+            }
+
+            @Override
+            public boolean mayContainSelectedExamples(List<String> groupDescriptions, Tags tags) {
+                return self.mayContainSelectedExamples(groupDescriptions, tags)
+                    && other.mayContainSelectedExamples(groupDescriptions, tags);
+            }
+        };
+    }
+}
@@ -0,0 +1,357 @@
+package j8spec;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Synchronous {@link ExampleListener} that measures the wall time and the thread CPU time spent by each example in
+ * its variable initializers, hooks and block.
+ *
+ * <p>
+ *     "Before all" and "after all" hooks run once per example group, so their cost is split evenly between the
+ *     examples of the group, including the examples of its inner groups. CPU time is measured with
+ *     {@link ThreadMXBean#getCurrentThreadCpuTime()} and reported as zero when the JVM does not support it.
+ * </p>
+ *
+ * <p>
+ *     When the system property <code>j8spec.timings</code> is set to a number, an instance is registered before the
+ *     first example runs and, when the JVM exits, a summary with that many of the slowest examples and example
+ *     groups is printed to the standard output.
+ * </p>
+ *
+ * @since 3.1.0
+ */
+public final class ExampleTimings implements ExampleListener {
+
+    private enum Phase {
+        VAR_INITIALIZERS("var initializers"),
+        BEFORE_ALL("before all (amortized)"),
+        BEFORE_EACH("before each"),
+        BLOCK("block"),
+        AFTER_EACH("after each"),
+        AFTER_ALL("after all (amortized)");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final boolean CPU_TIME_SUPPORTED = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported();
+
+    private static final class RunningExample {
+        private long wallStart;
+        private long cpuStart;
+        private long hookWallStart;
+        private long hookCpuStart;
+        private final long[] wall = new long[PHASES.length];
+        private final long[] cpu = new long[PHASES.length];
+    }
+
+    private static final class ExampleTiming {
+        private final List<String> containerDescriptions;
+        private final String description;
+        private final long[] wall;
+        private final long[] cpu;
+
+        ExampleTiming(List<String> containerDescriptions, String description, long[] wall, long[] cpu) {
+            this.containerDescriptions = containerDescriptions;
+            this.description = description;
+            this.wall = wall;
+            this.cpu = cpu;
+        }
+    }
+
+    private final ThreadLocal<RunningExample> runningExamples = ThreadLocal.withInitial(RunningExample::new);
+    private final ConcurrentLinkedQueue<ExampleTiming> timings = new ConcurrentLinkedQueue<>();
+    private final Map<List<String>, AtomicLongArray> groupHookTimes = new ConcurrentHashMap<>();
+
+    static void registerFromSystemProperty() {
+        Integer slowest = Integer.getInteger("j8spec.timings");
+        if (slowest == null) {
+            return;
+        }
+
+        ExampleTimings timings = new ExampleTimings();
+        ExampleListeners.register(timings);
+        Runtime.getRuntime().addShutdownHook(new Thread(
+            () -> System.out.print(timings.summary(slowest)),
+            "j8spec-timings-summary"
+        ));
+    }
+
+    @Override
+    public boolean synchronous() {
+        return true;
+    }
+
+    @Override
+    public void onEvent(ExampleEvent event) {
+        RunningExample running = runningExamples.get();
+        switch (event.type()) {
+            case EXAMPLE_STARTED:
+                running.wallStart = event.nanoTime();
+                running.cpuStart = cpuTime();
+                break;
+            case HOOK_STARTED:
+                running.hookWallStart = event.nanoTime();
+                running.hookCpuStart = cpuTime();
+                break;
+            case HOOK_FINISHED:
+                hookFinished(running, event.hook(), event.groupDescriptions(), event.nanoTime());
+                break;
+            case EXAMPLE_FINISHED:
+                exampleFinished(running, event.example(), event.nanoTime());
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void hookFinished(RunningExample running, ExampleEvent.Hook hook, List<String> group, long nanoTime) {
+        long wall = nanoTime - running.hookWallStart;
+        long cpu = cpuTime() - running.hookCpuStart;
+        Phase phase = phaseOf(hook);
+
+        if (phase == Phase.BEFORE_ALL || phase == Phase.AFTER_ALL) {
+            AtomicLongArray times = groupHookTimes.computeIfAbsent(
+                group,
+                key -> new AtomicLongArray(PHASES.length * 2)
+            );
+            times.addAndGet(phase.ordinal() * 2, wall);
+            times.addAndGet(phase.ordinal() * 2 + 1, cpu);
+        }
+
+        running.wall[phase.ordinal()] += wall;
+        running.cpu[phase.ordinal()] += cpu;
+    }
+
+    private void exampleFinished(RunningExample running, Example example, long nanoTime) {
+        long[] wall = running.wall.clone();
+        long[] cpu = running.cpu.clone();
+
+        wall[Phase.BLOCK.ordinal()] = (nanoTime - running.wallStart) - eachHooks(wall);
+        cpu[Phase.BLOCK.ordinal()] = (cpuTime() - running.cpuStart) - eachHooks(cpu);
+        wall[Phase.BEFORE_ALL.ordinal()] = wall[Phase.AFTER_ALL.ordinal()] = 0;
+        cpu[Phase.BEFORE_ALL.ordinal()] = cpu[Phase.AFTER_ALL.ordinal()] = 0;
+
+        timings.add(new ExampleTiming(example.containerDescriptions(), example.description(), wall, cpu));
+        Arrays.fill(running.wall, 0);
+        Arrays.fill(running.cpu, 0);
+    }
+
+    /**
+     * Variable initializers and "before all" hooks run before the example starts, "after all" hooks after it
+     * finishes, so only "before each" and "after each" hooks are part of the time between both events.
+     */
+    private static long eachHooks(long[] values) {
+        return values[Phase.BEFORE_EACH.ordinal()] + values[Phase.AFTER_EACH.ordinal()];
+    }
+
+    private static Phase phaseOf(ExampleEvent.Hook hook) {
+        switch (hook) {
+            case VAR_INITIALIZER:
+                return Phase.VAR_INITIALIZERS;
+            case BEFORE_ALL:
+                return Phase.BEFORE_ALL;
+            case BEFORE_EACH:
+                return Phase.BEFORE_EACH;
+            case AFTER_EACH:
+                return Phase.AFTER_EACH;
+            default:
+                return Phase.AFTER_ALL;
+        }
+    }
+
+    private static long cpuTime() {
+        return CPU_TIME_SUPPORTED ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : 0;
+    }
+
+    private static long sum(long[] values, Phase first, Phase last) {
+        long sum = 0;
+        for (int i = first.ordinal(); i <= last.ordinal(); i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    private static long sum(long[] values) {
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * Builds a summary of the examples finished so far, with the 50th, 90th and 99th percentiles of each phase and
+     * the slowest examples and example groups, by wall time.
+     *
+     * @param slowest number of slowest examples and example groups to include
+     * @return summary, one line per entry
+     * @since 3.1.0
+     */
+    public String summary(int slowest) {
+        List<ExampleTiming> examples = amortizedTimings();
+
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format(Locale.ROOT, "j8spec timings: %d examples%n", examples.size()));
+        summary.append(String.format(
+            Locale.ROOT,
+            "%-24s %10s %10s %10s   %10s %10s %10s%n",
+            "(ms)", "wall p50", "wall p90", "wall p99", "cpu p50", "cpu p90", "cpu p99"
+        ));
+        for (Phase phase : PHASES) {
+            int index = phase.ordinal();
+            appendPercentiles(
+                summary,
+                phase.label,
+                examples,
+                timing -> timing.wall[index],
+                timing -> timing.cpu[index]
+            );
+        }
+        appendPercentiles(summary, "total", examples, timing -> sum(timing.wall), timing -> sum(timing.cpu));
+
+        examples.sort(Comparator.comparingLong((ExampleTiming timing) -> sum(timing.wall)).reversed());
+        summary.append(String.format("slowest examples:%n"));
+        for (ExampleTiming timing : examples.subList(0, Math.min(slowest, examples.size()))) {
+            summary.append(String.format(
+                Locale.ROOT,
+                "  %10.3f ms wall %10.3f ms cpu (set up %.3f ms, block %.3f ms, tear down %.3f ms)  %s%n",
+                millis(sum(timing.wall)),
+                millis(sum(timing.cpu)),
+                millis(sum(timing.wall, Phase.VAR_INITIALIZERS, Phase.BEFORE_EACH)),
+                millis(timing.wall[Phase.BLOCK.ordinal()]),
+                millis(sum(timing.wall, Phase.AFTER_EACH, Phase.AFTER_ALL)),
+                path(timing.containerDescriptions, timing.description)
+            ));
+        }
+
+        summary.append(String.format("slowest example groups:%n"));
+        for (Map.Entry<List<String>, long[]> group : slowestGroups(examples, slowest)) {
+            summary.append(String.format(
+                Locale.ROOT,
+                "  %10.3f ms wall %10.3f ms cpu  %s%n",
+                millis(group.getValue()[0]),
+                millis(group.getValue()[1]),
+                String.join(" / ", group.getKey())
+            ));
+        }
+        return summary.toString();
+    }
+
+    private List<ExampleTiming> amortizedTimings() {
+        List<ExampleTiming> examples = new ArrayList<>(timings);
+
+        Map<List<String>, Integer> examplesPerGroup = new HashMap<>();
+        for (ExampleTiming timing : examples) {
+            for (int i = 1; i <= timing.containerDescriptions.size(); i++) {
+                examplesPerGroup.merge(timing.containerDescriptions.subList(0, i), 1, Integer::sum);
+            }
+        }
+
+        List<ExampleTiming> amortized = new ArrayList<>(examples.size());
+        for (ExampleTiming timing : examples) {
+            long[] wall = timing.wall.clone();
+            long[] cpu = timing.cpu.clone();
+            for (int i = 1; i <= timing.containerDescriptions.size(); i++) {
+                List<String> group = timing.containerDescriptions.subList(0, i);
+                AtomicLongArray times = groupHookTimes.get(group);
+                if (times == null) {
+                    continue;
+                }
+                int count = examplesPerGroup.get(group);
+                for (Phase phase : new Phase[]{Phase.BEFORE_ALL, Phase.AFTER_ALL}) {
+                    wall[phase.ordinal()] += times.get(phase.ordinal() * 2) / count;
+                    cpu[phase.ordinal()] += times.get(phase.ordinal() * 2 + 1) / count;
+                }
+            }
+            amortized.add(new ExampleTiming(timing.containerDescriptions, timing.description, wall, cpu));
+        }
+        return amortized;
+    }
+
+    private static List<Map.Entry<List<String>, long[]>> slowestGroups(List<ExampleTiming> examples, int slowest) {
+        Map<List<String>, long[]> groups = new HashMap<>();
+        for (ExampleTiming timing : examples) {
+            for (int i = 1; i <= timing.containerDescriptions.size(); i++) {
+                long[] times = groups.computeIfAbsent(timing.containerDescriptions.subList(0, i), key -> new long[2]);
+                times[0] += sum(timing.wall);
+                times[1] += sum(timing.cpu);
+            }
+        }
+
+        List<Map.Entry<List<String>, long[]>> sorted = new ArrayList<>(groups.entrySet());
+        sorted.sort(Comparator.comparingLong(
+            (Map.Entry<List<String>, long[]> group) -> group.getValue()[0]
+        ).reversed());
+        return sorted.subList(0, Math.min(slowest, sorted.size()));
+    }
+
+    private interface Measure {
+        long of(ExampleTiming timing);
+    }
+
+    private static void appendPercentiles(
+        StringBuilder summary,
+        String label,
+        List<ExampleTiming> examples,
+        Measure wall,
+        Measure cpu
+    ) {
+        long[] wallTimes = sorted(examples, wall);
+        long[] cpuTimes = sorted(examples, cpu);
+        summary.append(String.format(
+            Locale.ROOT,
+            "%-24s %10.3f %10.3f %10.3f   %10.3f %10.3f %10.3f%n",
+            label,
+            millis(percentile(wallTimes, 50)),
+            millis(percentile(wallTimes, 90)),
+            millis(percentile(wallTimes, 99)),
+            millis(percentile(cpuTimes, 50)),
+            millis(percentile(cpuTimes, 90)),
+            millis(percentile(cpuTimes, 99))
+        ));
+    }
+
+    private static long[] sorted(List<ExampleTiming> examples, Measure measure) {
+        long[] values = new long[examples.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = measure.of(examples.get(i));
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    static long percentile(long[] sortedValues, int percentile) {
+        if (sortedValues.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedValues.length);
+        return sortedValues[Math.max(rank, 1) - 1];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static String path(List<String> containerDescriptions, String description) {
+        List<String> path = new ArrayList<>(containerDescriptions);
+        path.add(description);
+        return String.join(" / ", path);
+    }
+}
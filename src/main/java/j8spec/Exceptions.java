@@ -62,6 +62,16 @@ public final class Exceptions {
         }
     }
 
+    /**
+     * Thrown when the lazy initialization function of a variable throws a checked exception.
+     * @since 3.1.0
+     */
+    public static class VariableInitializationFailed extends Base {
+        VariableInitializationFailed(Throwable cause) {
+            super("Variable initialization failed.", cause);
+        }
+    }
+
     /**
      * Thrown when a block definition method is called outside the context of
      * the {@link j8spec.J8Spec#read(Class)} method.
@@ -103,38 +113,70 @@ public final class Exceptions {
         }
     }
 
-    static class Collector {
-        @SuppressWarnings("ThrowableInstanceNeverThrown")
-        private final Throwable throwable = new MultipleFailures();
+    /**
+     * Thrown when an example cannot be executed because a "before all" hook of one of its example groups has
+     * failed while running another example.
+     * @since 3.1.0
+     */
+    public static class BeforeAllHookFailed extends Base {
+        BeforeAllHookFailed(Throwable cause) {
+            super("'before all' hook failed while running another example.", cause);
+        }
+    }
 
-        void execute(UnsafeBlock unsafeBlock) {
-            try {
-                unsafeBlock.tryToExecute();
-            } catch (Throwable cause) {
-                throwable.addSuppressed(cause);
-            }
+    /**
+     * Thrown when the block of an example allocates more bytes than its allocation budget.
+     * @since 3.1.0
+     */
+    public static class AllocationBudgetExceeded extends Base {
+        AllocationBudgetExceeded(long allocatedBytes, long maxAllocatedBytes) {
+            super("Example allocated " + allocatedBytes + " bytes, budget is " + maxAllocatedBytes + " bytes.");
         }
+    }
 
-        void haltOnFailure() throws Throwable {
-            if (isEmpty()) {
-                return;
-            }
+    /**
+     * Thrown when an example has an allocation budget but the bytes allocated by its block cannot be measured, for
+     * instance because it runs on a virtual thread or the JVM does not support it.
+     * @since 3.1.0
+     */
+    public static class AllocationBudgetNotChecked extends Base {
+        AllocationBudgetNotChecked() {
+            super("Allocation budget not checked: allocated bytes cannot be measured in this thread.");
+        }
+    }
 
-            if (throwable.getSuppressed().length == 1) {
-                throw throwable.getSuppressed()[0];
-            }
+    static Throwable execute(UnsafeBlock block, Throwable failure) {
+        try {
+            block.tryToExecute();
+            return failure;
+        } catch (Throwable cause) {
+            return collect(failure, cause);
+        }
+    }
 
-            throw throwable;
+    static Throwable executeOrSkip(UnsafeBlock block, Throwable failure) {
+        if (failure != null) {
+            return failure;
         }
 
-        void executeOrSkip(UnsafeBlock unsafeBlocks) {
-            if (isEmpty()) {
-                execute(unsafeBlocks);
-            }
+        return execute(block, null);
+    }
+
+    private static Throwable collect(Throwable failure, Throwable cause) {
+        if (failure == null) {
+            return cause;
         }
 
-        boolean isEmpty() {
-            return throwable.getSuppressed().length == 0;
+        @SuppressWarnings("ThrowableInstanceNeverThrown")
+        Throwable failures = new MultipleFailures();
+        if (failure instanceof MultipleFailures) {
+            for (Throwable suppressed : failure.getSuppressed()) {
+                failures.addSuppressed(suppressed);
+            }
+        } else {
+            failures.addSuppressed(failure);
         }
+        failures.addSuppressed(cause);
+        return failures;
     }
 }
@@ -1,5 +1,8 @@
 package j8spec;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.Function;
 
@@ -13,7 +16,7 @@ import static java.util.function.Function.identity;
  * J8Spec main facade.
  *
  * <p>
- *     <b>Note:</b> this class is thread-safe.
+ *     <b>Note:</b> this class is thread-safe, specs read by different threads do not block each other.
  * </p>
  *
  * @since 1.0.0
@@ -33,13 +36,33 @@ public final class J8Spec {
      * context has been defined already
      * @since 1.0.0
      */
-    public static synchronized void describe(String description, SafeBlock block) {
-        isValidContext("describe");
-        ExampleGroupConfiguration config = new ExampleGroupConfiguration.Builder()
+    public static void describe(String description, SafeBlock block) {
+        describe(description, identity(), block);
+    }
+
+    /**
+     * Defines a new example group using custom configuration.
+     *
+     * @param description textual description of the example group
+     * @param collector example group configuration collector
+     * @param block code that defines inner examples or example groups, like "describe", "it", etc - this code is
+     *              executed immediately
+     * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
+     * @throws Exceptions.BlockAlreadyDefined if another example group with the same description in the same
+     * context has been defined already
+     * @since 3.1.0
+     */
+    public static void describe(
+        String description,
+        Function<ExampleGroupConfiguration.Builder, ExampleGroupConfiguration.Builder> collector,
+        SafeBlock block
+    ) {
+        ExampleGroupContext context = currentContext("describe");
+        ExampleGroupConfiguration config = collector.apply(new ExampleGroupConfiguration.Builder())
             .description(description)
             .executionFlag(DEFAULT)
             .build();
-        contexts.get().current().addGroup(config, block);
+        context.current().addGroup(config, block);
     }
 
     /**
@@ -53,13 +76,33 @@ public final class J8Spec {
      * has been defined already
      * @since 2.0.0
      */
-    public static synchronized void context(String description, SafeBlock block) {
-        isValidContext("context");
-        ExampleGroupConfiguration config = new ExampleGroupConfiguration.Builder()
+    public static void context(String description, SafeBlock block) {
+        context(description, identity(), block);
+    }
+
+    /**
+     * Alias for {@link #describe(String, Function, SafeBlock)}.
+     *
+     * @param description textual description of the example group
+     * @param collector example group configuration collector
+     * @param block code that defines inner examples and example groups, like "describe", "it", etc - this code is
+     *              executed immediately
+     * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
+     * @throws Exceptions.BlockAlreadyDefined if another example group with the same description in the same context
+     * has been defined already
+     * @since 3.1.0
+     */
+    public static void context(
+        String description,
+        Function<ExampleGroupConfiguration.Builder, ExampleGroupConfiguration.Builder> collector,
+        SafeBlock block
+    ) {
+        ExampleGroupContext context = currentContext("context");
+        ExampleGroupConfiguration config = collector.apply(new ExampleGroupConfiguration.Builder())
             .description(description)
             .executionFlag(DEFAULT)
             .build();
-        contexts.get().current().addGroup(config, block);
+        context.current().addGroup(config, block);
     }
 
     /**
@@ -75,14 +118,14 @@ public final class J8Spec {
      * <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void xdescribe(String description, SafeBlock block) {
+    public static void xdescribe(String description, SafeBlock block) {
         notAllowedWhenCIModeEnabled("xdescribe");
-        isValidContext("xdescribe");
+        ExampleGroupContext context = currentContext("xdescribe");
         ExampleGroupConfiguration config = new ExampleGroupConfiguration.Builder()
             .description(description)
             .executionFlag(IGNORED)
             .build();
-        contexts.get().current().addGroup(config, block);
+        context.current().addGroup(config, block);
     }
 
     /**
@@ -98,14 +141,14 @@ public final class J8Spec {
      * <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void xcontext(String description, SafeBlock block) {
+    public static void xcontext(String description, SafeBlock block) {
         notAllowedWhenCIModeEnabled("xcontext");
-        isValidContext("xcontext");
+        ExampleGroupContext context = currentContext("xcontext");
         ExampleGroupConfiguration config = new ExampleGroupConfiguration.Builder()
             .description(description)
             .executionFlag(IGNORED)
             .build();
-        contexts.get().current().addGroup(config, block);
+        context.current().addGroup(config, block);
     }
 
     /**
@@ -121,14 +164,14 @@ public final class J8Spec {
      * <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void fdescribe(String description, SafeBlock block) {
+    public static void fdescribe(String description, SafeBlock block) {
         notAllowedWhenCIModeEnabled("fdescribe");
-        isValidContext("fdescribe");
+        ExampleGroupContext context = currentContext("fdescribe");
         ExampleGroupConfiguration config = new ExampleGroupConfiguration.Builder()
             .description(description)
             .executionFlag(FOCUSED)
             .build();
-        contexts.get().current().addGroup(config, block);
+        context.current().addGroup(config, block);
     }
 
     /**
@@ -143,14 +186,14 @@ public final class J8Spec {
      * @throws Exceptions.OperationNotAllowedInCIMode if the system property <code>j8spec.ci.mode</code> is <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void fcontext(String description, SafeBlock block) {
+    public static void fcontext(String description, SafeBlock block) {
         notAllowedWhenCIModeEnabled("fcontext");
-        isValidContext("fcontext");
+        ExampleGroupContext context = currentContext("fcontext");
         ExampleGroupConfiguration config = new ExampleGroupConfiguration.Builder()
             .description(description)
             .executionFlag(FOCUSED)
             .build();
-        contexts.get().current().addGroup(config, block);
+        context.current().addGroup(config, block);
     }
 
     /**
@@ -160,9 +203,9 @@ public final class J8Spec {
      * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
      * @since 2.0.0
      */
-    public static synchronized void beforeAll(UnsafeBlock block) {
-        isValidContext("beforeAll");
-        contexts.get().current().addBeforeAll(block);
+    public static void beforeAll(UnsafeBlock block) {
+        ExampleGroupContext context = currentContext("beforeAll");
+        context.current().addBeforeAll(block);
     }
 
     /**
@@ -172,9 +215,9 @@ public final class J8Spec {
      * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
      * @since 1.0.0
      */
-    public static synchronized void beforeEach(UnsafeBlock block) {
-        isValidContext("beforeEach");
-        contexts.get().current().addBeforeEach(block);
+    public static void beforeEach(UnsafeBlock block) {
+        ExampleGroupContext context = currentContext("beforeEach");
+        context.current().addBeforeEach(block);
     }
 
     /**
@@ -184,9 +227,9 @@ public final class J8Spec {
      * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
      * @since 3.0.0
      */
-    public static synchronized void afterEach(UnsafeBlock block) {
-        isValidContext("afterEach");
-        contexts.get().current().addAfterEach(block);
+    public static void afterEach(UnsafeBlock block) {
+        ExampleGroupContext context = currentContext("afterEach");
+        context.current().addAfterEach(block);
     }
 
     /**
@@ -196,9 +239,9 @@ public final class J8Spec {
      * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
      * @since 3.0.0
      */
-    public static synchronized void afterAll(UnsafeBlock block) {
-        isValidContext("afterAll");
-        contexts.get().current().addAfterAll(block);
+    public static void afterAll(UnsafeBlock block) {
+        ExampleGroupContext context = currentContext("afterAll");
+        context.current().addAfterAll(block);
     }
 
     /**
@@ -211,7 +254,7 @@ public final class J8Spec {
      * defined already
      * @since 1.0.0
      */
-    public static synchronized void it(String description, UnsafeBlock block) {
+    public static void it(String description, UnsafeBlock block) {
         it(description, identity(), block);
     }
 
@@ -226,17 +269,17 @@ public final class J8Spec {
      * defined already
      * @since 2.0.0
      */
-    public static synchronized void it(
+    public static void it(
         String description,
         Function<ExampleConfiguration.Builder, ExampleConfiguration.Builder> collector,
         UnsafeBlock block
     ) {
-        isValidContext("it");
+        ExampleGroupContext context = currentContext("it");
         ExampleConfiguration config = collector.apply(new ExampleConfiguration.Builder())
             .description(description)
             .executionFlag(DEFAULT)
             .build();
-        contexts.get().current().addExample(config, block);
+        context.current().addExample(config, block);
     }
 
     /**
@@ -250,7 +293,7 @@ public final class J8Spec {
      * @throws Exceptions.OperationNotAllowedInCIMode if the system property <code>j8spec.ci.mode</code> is <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void xit(String description, UnsafeBlock block) {
+    public static void xit(String description, UnsafeBlock block) {
         xit(description, identity(), block);
     }
 
@@ -267,18 +310,18 @@ public final class J8Spec {
      * <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void xit(
+    public static void xit(
         String description,
         Function<ExampleConfiguration.Builder, ExampleConfiguration.Builder> collector,
         UnsafeBlock block
     ) {
         notAllowedWhenCIModeEnabled("xit");
-        isValidContext("xit");
+        ExampleGroupContext context = currentContext("xit");
         ExampleConfiguration config = collector.apply(new ExampleConfiguration.Builder())
             .description(description)
             .executionFlag(IGNORED)
             .build();
-        contexts.get().current().addExample(config, block);
+        context.current().addExample(config, block);
     }
 
     /**
@@ -293,7 +336,7 @@ public final class J8Spec {
      * <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void fit(String description, UnsafeBlock block) {
+    public static void fit(String description, UnsafeBlock block) {
         fit(description, identity(), block);
     }
 
@@ -310,18 +353,18 @@ public final class J8Spec {
      * <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void fit(
+    public static void fit(
         String description,
         Function<ExampleConfiguration.Builder, ExampleConfiguration.Builder> collector,
         UnsafeBlock block
     ) {
         notAllowedWhenCIModeEnabled("fit");
-        isValidContext("fit");
+        ExampleGroupContext context = currentContext("fit");
         ExampleConfiguration config = collector.apply(new ExampleConfiguration.Builder())
             .description(description)
             .executionFlag(FOCUSED)
             .build();
-        contexts.get().current().addExample(config, block);
+        context.current().addExample(config, block);
     }
 
     /**
@@ -336,8 +379,29 @@ public final class J8Spec {
      * @since 3.1.0
      */
     public static <T> void let(Var<T> var, UnsafeFunction<T> initFunction) {
-        isValidContext("let");
-        contexts.get().current().addVarInitializer(var, initFunction);
+        let(var, identity(), initFunction);
+    }
+
+    /**
+     * Initializes the provided variable using custom configuration.
+     *
+     * @param var variable to be initialized
+     * @param collector initializer configuration collector
+     * @param initFunction initialization function that will provide the value for the variable
+     * @param <T> the type of the value stored by <code>var</code> and returned by <code>initFunction</code>
+     * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
+     * @throws Exceptions.VariableInitializerAlreadyDefined if another initializer was defined for the provided
+     * variable in the same context
+     * @since 3.1.0
+     */
+    public static <T> void let(
+        Var<T> var,
+        Function<VarConfiguration.Builder, VarConfiguration.Builder> collector,
+        UnsafeFunction<T> initFunction
+    ) {
+        ExampleGroupContext context = currentContext("let");
+        VarConfiguration config = collector.apply(new VarConfiguration.Builder()).build();
+        context.current().addVarInitializer(config, var, initFunction);
     }
 
     private static void notAllowedWhenCIModeEnabled(final String methodName) {
@@ -346,10 +410,46 @@ public final class J8Spec {
         }
     }
 
-    private static void isValidContext(final String methodName) {
-        if (contexts.get() == null) {
+    private static ExampleGroupDefinition define(Class<?> specClass, ExampleGroupContext context) {
+        if (!ExampleListeners.active()) {
+            return newExampleGroupDefinition(specClass, context);
+        }
+
+        List<String> specDescriptions = Collections.singletonList(specClass.getName());
+        ExampleListeners.specDefinitionStarted(specDescriptions);
+        try {
+            ExampleGroupDefinition exampleGroupDefinition = newExampleGroupDefinition(specClass, context);
+            ExampleListeners.specDefinitionFinished(specDescriptions, null);
+            return exampleGroupDefinition;
+        } catch (RuntimeException | Error e) {
+            ExampleListeners.specDefinitionFinished(specDescriptions, e);
+            throw e;
+        }
+    }
+
+    private static ExampleSelector and(ExampleSelector selector, ExampleSelector other) {
+        if (selector == ExampleSelector.ALL) {
+            return other;
+        }
+        if (other == ExampleSelector.ALL) {
+            return selector;
+        }
+        return selector.and(other);
+    }
+
+    /**
+     * @return context of the spec being read by the current thread, <code>null</code> if there is none
+     */
+    static ExampleGroupContext activeContext() {
+        return contexts.get();
+    }
+
+    private static ExampleGroupContext currentContext(final String methodName) {
+        ExampleGroupContext context = contexts.get();
+        if (context == null) {
             throw new Exceptions.IllegalContext(methodName);
         }
+        return context;
     }
 
     /**
@@ -361,7 +461,8 @@ public final class J8Spec {
      * @since 3.1.0
      */
     public static <T> Var<T> var() {
-        return new Var<>();
+        ExampleGroupContext context = contexts.get();
+        return new Var<>(context == null ? -1 : context.nextVarId());
     }
 
     /**
@@ -373,7 +474,7 @@ public final class J8Spec {
      * @since 3.1.0
      */
     public static <T> T var(Var<T> var) {
-        return var.value;
+        return var.get();
     }
 
     /**
@@ -386,7 +487,7 @@ public final class J8Spec {
      * @since 3.1.0
      */
     public static <T> T var(Var<T> var, T value) {
-        return var.value = value;
+        return var.set(value);
     }
 
     /**
@@ -397,20 +498,95 @@ public final class J8Spec {
      * @throws Exceptions.SpecInitializationFailed if it is not possible to create an instance of <code>specClass</code>
      * @since 2.0.0
      */
-    public static synchronized List<Example> read(Class<?> specClass) {
-        contexts.set(new ExampleGroupContext());
-        try {
-            ExampleGroupDefinition exampleGroupDefinition = newExampleGroupDefinition(specClass, contexts.get());
+    public static List<Example> read(Class<?> specClass) {
+        return read(specClass, ExampleSelector.ALL);
+    }
 
-            exampleGroupDefinition.accept(new DuplicatedBlockValidator());
+    /**
+     * Uses the given spec class to build and populate a list of the {@link Example} objects accepted by the
+     * selector.
+     *
+     * @param specClass class with a public default constructor that contains the spec definition
+     * @param selector selects the examples to be built
+     * @return selected {@link Example} objects that represent the spec definition and can be executed
+     * @throws Exceptions.SpecInitializationFailed if it is not possible to create an instance of <code>specClass</code>
+     * @since 3.1.0
+     */
+    public static List<Example> read(Class<?> specClass, ExampleSelector selector) {
+        List<Example> examples = new ArrayList<>();
+        iterate(specClass, selector).forEachRemaining(examples::add);
+        return examples;
+    }
+
+    /**
+     * Uses the given spec class to build its {@link Example} objects and index them by description path.
+     *
+     * @param specClass class with a public default constructor that contains the spec definition
+     * @return index of the {@link Example} objects that represent the spec definition
+     * @throws Exceptions.SpecInitializationFailed if it is not possible to create an instance of <code>specClass</code>
+     * @see ExampleIndex
+     * @since 3.1.0
+     */
+    public static ExampleIndex index(Class<?> specClass) {
+        return ExampleIndex.of(read(specClass));
+    }
 
-            BlockExecutionStrategySelector strategySelector = new BlockExecutionStrategySelector();
-            exampleGroupDefinition.accept(strategySelector);
+    /**
+     * Uses the given spec class to build {@link Example} objects while they are iterated.
+     *
+     * <p>
+     *     The spec definition is executed immediately, but examples are only built when requested, in execution
+     *     order. Examples of defined order groups are available once the next example has been built, examples of
+     *     random order groups once the outermost random order group has been built. Examples can be run as soon as
+     *     they are returned: "after all" hooks still run only after the last example of their group.
+     * </p>
+     *
+     * @param specClass class with a public default constructor that contains the spec definition
+     * @return {@link Example} objects that represent the spec definition and can be executed
+     * @throws Exceptions.SpecInitializationFailed if it is not possible to create an instance of <code>specClass</code>
+     * @throws Exceptions.BlockAlreadyDefined if the spec defines an example or example group with the same
+     * description of another one in the same context
+     * @since 3.1.0
+     */
+    public static Iterator<Example> iterate(Class<?> specClass) {
+        return iterate(specClass, ExampleSelector.ALL);
+    }
 
-            ExampleBuilder exampleBuilder = new ExampleBuilder(strategySelector.strategy());
-            exampleGroupDefinition.accept(exampleBuilder);
+    /**
+     * Uses the given spec class to build the {@link Example} objects accepted by the selector while they are
+     * iterated.
+     *
+     * <p>
+     *     The selector is called while the iteration walks the spec definition, so it may change its answers until
+     *     the first example is requested. Examples that are not selected keep the execution order of the selected
+     *     ones unchanged, even in random order groups. Example groups are checked when they are defined, so
+     *     example groups that cannot contain selected examples do not have their definition blocks executed. Each
+     *     example group orders its content with its own random sequence, so skipping a group does not change the
+     *     order of the others.
+     * </p>
+     *
+     * <p>
+     *     The paths in the system properties <code>j8spec.include</code> and <code>j8spec.exclude</code>, and the
+     *     tags in <code>j8spec.tags.include</code> and <code>j8spec.tags.exclude</code>, are applied together with the
+     *     selector (see {@link PathSelector#fromSystemProperties()} and {@link TagSelector#fromSystemProperties()}).
+     * </p>
+     *
+     * @param specClass class with a public default constructor that contains the spec definition
+     * @param selector selects the examples to be built
+     * @return selected {@link Example} objects that represent the spec definition and can be executed
+     * @throws Exceptions.SpecInitializationFailed if it is not possible to create an instance of <code>specClass</code>
+     * @throws Exceptions.BlockAlreadyDefined if the spec defines an example or example group with the same
+     * description of another one in the same context
+     * @since 3.1.0
+     */
+    public static Iterator<Example> iterate(Class<?> specClass, ExampleSelector selector) {
+        selector = and(PathSelector.fromSystemProperties(), and(TagSelector.fromSystemProperties(), selector));
 
-            return exampleBuilder.build();
+        ExampleGroupContext context = new ExampleGroupContext(selector);
+        contexts.set(context);
+        try {
+            ExampleGroupDefinition exampleGroupDefinition = define(specClass, context);
+            return new ExampleIterator(exampleGroupDefinition, context.strategySelector().strategy(), selector);
         } finally {
             contexts.set(null);
         }
@@ -0,0 +1,311 @@
+package j8spec;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Emits Java Flight Recorder events for spec definitions, example groups, hooks and examples.
+ *
+ * <p>
+ *     Event types are created with <code>jdk.jfr.EventFactory</code> through reflection, so j8spec still runs on
+ *     JVMs without JFR. Events are only created while a recording has enabled their type. Whether each type is
+ *     enabled is cached and refreshed when a recording starts or stops.
+ * </p>
+ *
+ * <p>
+ *     When the system property <code>j8spec.jfr</code> is <code>true</code>, the listener registers itself only
+ *     while a recording has enabled at least one of its event types, so examples run as if there were no listener
+ *     while nothing is recorded. Hook events are only emitted for example groups whose first example starts while
+ *     recording.
+ * </p>
+ */
+final class JfrExampleListener implements ExampleListener {
+
+    private static final Logger LOG = Logger.getLogger("j8spec.JfrExampleListener");
+
+    private static final String PATH_SEPARATOR = " / ";
+    private static final String PASSED = "passed";
+    private static final String FAILED = "failed";
+
+    /**
+     * JFR event type, created at run time.
+     */
+    private static final class EventKind {
+        private final Object factory;
+        private final Object eventType;
+        private final Method newEvent;
+        private final Method isEnabled;
+        private final Method set;
+        private final Method begin;
+        private final Method end;
+        private final Method commit;
+        private volatile boolean enabled;
+
+        EventKind(String name, String label, String... fields) throws ReflectiveOperationException {
+            Class<?> annotationElementClass = Class.forName("jdk.jfr.AnnotationElement");
+            Constructor<?> annotationElement = annotationElementClass.getConstructor(Class.class, Object.class);
+            List<Object> annotations = new ArrayList<>();
+            annotations.add(annotationElement.newInstance(annotation("jdk.jfr.Name"), name));
+            annotations.add(annotationElement.newInstance(annotation("jdk.jfr.Label"), label));
+            annotations.add(annotationElement.newInstance(annotation("jdk.jfr.Category"), new String[]{"j8spec"}));
+            annotations.add(annotationElement.newInstance(annotation("jdk.jfr.StackTrace"), false));
+
+            Constructor<?> valueDescriptor = Class.forName("jdk.jfr.ValueDescriptor")
+                .getConstructor(Class.class, String.class);
+            List<Object> values = new ArrayList<>();
+            for (String field : fields) {
+                values.add(valueDescriptor.newInstance(String.class, field));
+            }
+
+            Class<?> factoryClass = Class.forName("jdk.jfr.EventFactory");
+            this.factory = factoryClass.getMethod("create", List.class, List.class).invoke(null, annotations, values);
+            this.eventType = factoryClass.getMethod("getEventType").invoke(factory);
+            this.newEvent = factoryClass.getMethod("newEvent");
+            this.isEnabled = eventType.getClass().getMethod("isEnabled");
+
+            Class<?> eventClass = Class.forName("jdk.jfr.Event");
+            this.set = eventClass.getMethod("set", int.class, Object.class);
+            this.begin = eventClass.getMethod("begin");
+            this.end = eventClass.getMethod("end");
+            this.commit = eventClass.getMethod("commit");
+            refresh();
+        }
+
+        void refresh() {
+            try {
+                enabled = (Boolean) isEnabled.invoke(eventType);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        boolean enabled() {
+            return enabled;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Class<? extends Annotation> annotation(String name) throws ClassNotFoundException {
+            return (Class<? extends Annotation>) Class.forName(name);
+        }
+
+        /**
+         * Must only be called when the event type is {@link #enabled()}.
+         */
+        Object begin(String... values) {
+            try {
+                Object event = newEvent.invoke(factory);
+                for (int i = 0; i < values.length; i++) {
+                    set.invoke(event, i, values[i]);
+                }
+                begin.invoke(event);
+                return event;
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        void commit(Object event, int firstField, String... values) {
+            if (event == null) {
+                return;
+            }
+
+            try {
+                for (int i = 0; i < values.length; i++) {
+                    set.invoke(event, firstField + i, values[i]);
+                }
+                end.invoke(event);
+                commit.invoke(event);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static final class OpenEvents {
+        private Object specDefinition;
+        private Object hook;
+        private Object example;
+    }
+
+    private final EventKind specDefinitionKind;
+    private final EventKind exampleGroupKind;
+    private final EventKind hookKind;
+    private final EventKind exampleKind;
+    private final ThreadLocal<OpenEvents> openEvents = ThreadLocal.withInitial(OpenEvents::new);
+    private final Map<List<String>, Object> openGroups = new ConcurrentHashMap<>();
+    private final Object recorderListener;
+    private boolean followsRecordings;
+    private boolean registered;
+
+    private JfrExampleListener() throws ReflectiveOperationException {
+        specDefinitionKind = new EventKind("j8spec.SpecDefinition", "Spec Definition", "spec", "outcome");
+        exampleGroupKind = new EventKind("j8spec.ExampleGroup", "Example Group", "path");
+        hookKind = new EventKind("j8spec.Hook", "Hook", "path", "hook", "outcome");
+        exampleKind = new EventKind("j8spec.Example", "Example", "path", "outcome");
+
+        Class<?> recorderListenerClass = Class.forName("jdk.jfr.FlightRecorderListener");
+        recorderListener = Proxy.newProxyInstance(
+            recorderListenerClass.getClassLoader(),
+            new Class<?>[]{recorderListenerClass},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "recordingStateChanged":
+                        refresh();
+                        return null;
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return "j8spec JFR event type refresher";
+                    default:
+                        return null;
+                }
+            }
+        );
+        Class.forName("jdk.jfr.FlightRecorder")
+            .getMethod("addListener", recorderListenerClass)
+            .invoke(null, recorderListener);
+    }
+
+    private synchronized void refresh() {
+        specDefinitionKind.refresh();
+        exampleGroupKind.refresh();
+        hookKind.refresh();
+        exampleKind.refresh();
+
+        boolean recorded = followsRecordings && (
+            specDefinitionKind.enabled() || exampleGroupKind.enabled() || hookKind.enabled() || exampleKind.enabled()
+        );
+        if (recorded && !registered) {
+            ExampleListeners.register(this);
+        } else if (!recorded && registered) {
+            ExampleListeners.unregister(this);
+            openGroups.clear();
+        }
+        registered = recorded;
+    }
+
+    /**
+     * Registers this listener while a recording has enabled at least one of its event types, and unregisters it
+     * otherwise.
+     */
+    synchronized void registerWhileRecording() {
+        followsRecordings = true;
+        refresh();
+    }
+
+    /**
+     * Unregisters this listener and stops following recordings.
+     */
+    synchronized void unregister() {
+        followsRecordings = false;
+        refresh();
+        try {
+            Class.forName("jdk.jfr.FlightRecorder")
+                .getMethod("removeListener", Class.forName("jdk.jfr.FlightRecorderListener"))
+                .invoke(null, recorderListener);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return new listener, or <code>null</code> if the JVM does not support custom JFR events
+     */
+    static JfrExampleListener create() {
+        try {
+            return new JfrExampleListener();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    static void registerFromSystemProperty() {
+        if (!Boolean.getBoolean("j8spec.jfr")) {
+            return;
+        }
+
+        JfrExampleListener listener = create();
+        if (listener == null) {
+            LOG.info("JFR events not supported by this JVM");
+            return;
+        }
+        listener.registerWhileRecording();
+    }
+
+    @Override
+    public boolean synchronous() {
+        return true;
+    }
+
+    @Override
+    public void onEvent(ExampleEvent event) {
+        OpenEvents open = openEvents.get();
+        switch (event.type()) {
+            case SPEC_DEFINITION_STARTED:
+                if (specDefinitionKind.enabled()) {
+                    open.specDefinition = specDefinitionKind.begin(event.groupDescriptions().get(0));
+                }
+                break;
+            case SPEC_DEFINITION_FINISHED:
+                specDefinitionKind.commit(open.specDefinition, 1, outcome(event.failure()));
+                open.specDefinition = null;
+                break;
+            case GROUP_STARTED:
+                if (exampleGroupKind.enabled()) {
+                    openGroups.put(event.groupDescriptions(), exampleGroupKind.begin(path(event.groupDescriptions())));
+                }
+                break;
+            case GROUP_FINISHED:
+                if (!openGroups.isEmpty()) {
+                    exampleGroupKind.commit(openGroups.remove(event.groupDescriptions()), 1);
+                }
+                break;
+            case HOOK_STARTED:
+                if (hookKind.enabled()) {
+                    open.hook = hookKind.begin(path(event.groupDescriptions()), event.hook().name());
+                }
+                break;
+            case HOOK_FINISHED:
+                hookKind.commit(open.hook, 2, outcome(event.failure()));
+                open.hook = null;
+                break;
+            case EXAMPLE_STARTED:
+                if (exampleKind.enabled()) {
+                    open.example = exampleKind.begin(path(event.groupDescriptions(), event.example().description()));
+                }
+                break;
+            case EXAMPLE_FAILED:
+                exampleKind.commit(open.example, 1, FAILED);
+                open.example = null;
+                break;
+            case EXAMPLE_FINISHED:
+                exampleKind.commit(open.example, 1, PASSED);
+                open.example = null;
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static String outcome(Throwable failure) {
+        return failure == null ? PASSED : FAILED;
+    }
+
+    private static String path(List<String> descriptions) {
+        return String.join(PATH_SEPARATOR, descriptions);
+    }
+
+    private static String path(List<String> containerDescriptions, String description) {
+        return path(containerDescriptions) + PATH_SEPARATOR + description;
+    }
+}
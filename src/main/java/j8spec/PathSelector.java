@@ -0,0 +1,157 @@
+package j8spec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Selects examples by their description path.
+ *
+ * <p>
+ *     A path is made of the descriptions of the example groups that contain an example, followed by the example
+ *     description, separated by <code>/</code> and without the spec class name, like
+ *     <code>describe A/describe B/example C</code>. A path selects the example group or example it points to and
+ *     everything inside it. Examples are selected when they are inside an included path, or when there are no
+ *     included paths at all, as long as they are not inside an excluded path.
+ * </p>
+ *
+ * <p>
+ *     Example groups that cannot contain selected examples are skipped while the spec is defined, so their
+ *     definition blocks never run.
+ * </p>
+ *
+ * @since 3.1.0
+ */
+public final class PathSelector implements ExampleSelector {
+
+    /**
+     * Path selector builder.
+     * @since 3.1.0
+     */
+    public static final class Builder {
+
+        private final List<List<String>> includedPaths = new ArrayList<>();
+        private final List<List<String>> excludedPaths = new ArrayList<>();
+
+        /**
+         * @param path path of the example group or example to include
+         * @return this
+         * @since 3.1.0
+         */
+        public Builder include(String path) {
+            includedPaths.add(parse(path));
+            return this;
+        }
+
+        /**
+         * @param path path of the example group or example to exclude
+         * @return this
+         * @since 3.1.0
+         */
+        public Builder exclude(String path) {
+            excludedPaths.add(parse(path));
+            return this;
+        }
+
+        /**
+         * @return new path selector
+         * @since 3.1.0
+         */
+        public PathSelector build() {
+            return new PathSelector(includedPaths, excludedPaths);
+        }
+
+        private static List<String> parse(String path) {
+            return Arrays.asList(path.split("/"));
+        }
+    }
+
+    private final List<List<String>> includedPaths;
+    private final List<List<String>> excludedPaths;
+
+    private PathSelector(List<List<String>> includedPaths, List<List<String>> excludedPaths) {
+        this.includedPaths = unmodifiableList(new ArrayList<>(includedPaths));
+        this.excludedPaths = unmodifiableList(new ArrayList<>(excludedPaths));
+    }
+
+    /**
+     * Builds a selector from the comma separated paths in the system properties <code>j8spec.include</code> and
+     * <code>j8spec.exclude</code>.
+     *
+     * @return selector for the paths in the system properties, or {@link ExampleSelector#ALL} if none is set
+     * @since 3.1.0
+     */
+    public static ExampleSelector fromSystemProperties() {
+        String included = System.getProperty("j8spec.include", "");
+        String excluded = System.getProperty("j8spec.exclude", "");
+        if (included.isEmpty() && excluded.isEmpty()) {
+            return ALL;
+        }
+
+        Builder builder = new Builder();
+        for (String path : split(included)) {
+            builder.include(path);
+        }
+        for (String path : split(excluded)) {
+            builder.exclude(path);
+        }
+        return builder.build();
+    }
+
+    private static List<String> split(String paths) {
+        List<String> result = new ArrayList<>();
+        for (String path : paths.split(",")) {
+            if (!path.trim().isEmpty()) {
+                result.add(path.trim());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean selects(List<String> containerDescriptions, String description) {
+        List<String> path = new ArrayList<>(containerDescriptions.subList(1, containerDescriptions.size()));
+        path.add(description);
+
+        if (anyIsPrefixOf(excludedPaths, path)) {
+            return false;
+        }
+
+        return includedPaths.isEmpty() || anyIsPrefixOf(includedPaths, path);
+    }
+
+    @Override
+    public boolean mayContainSelectedExamples(List<String> groupDescriptions) {
+        List<String> path = groupDescriptions.subList(1, groupDescriptions.size());
+
+        if (anyIsPrefixOf(excludedPaths, path)) {
+            return false;
+        }
+
+        if (includedPaths.isEmpty()) {
+            return true;
+        }
+
+        for (List<String> includedPath : includedPaths) {
+            if (isPrefix(includedPath, path) || isPrefix(path, includedPath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean anyIsPrefixOf(List<List<String>> prefixes, List<String> path) {
+        for (List<String> prefix : prefixes) {
+            if (isPrefix(prefix, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isPrefix(List<String> prefix, List<String> path) {
+        return prefix.size() <= path.size() && prefix.equals(path.subList(0, prefix.size()));
+    }
+}
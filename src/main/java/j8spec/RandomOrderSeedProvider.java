@@ -7,10 +7,19 @@ final class RandomOrderSeedProvider {
 
     private static Logger LOG = Logger.getLogger("j8spec.RandomOrderSeedProvider");
 
-    private static Long seed;
+    private static volatile Long seed;
+
+    static Long seed() {
+        Long current = seed;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (RandomOrderSeedProvider.class) {
+            if (seed != null) {
+                return seed;
+            }
 
-    static synchronized Long seed() {
-        if (seed == null) {
             String seedFromProperty = System.getProperty("j8spec.seed", "");
             if ("".equals(seedFromProperty)) {
                 seed = new Random().nextLong();
@@ -23,9 +32,9 @@ final class RandomOrderSeedProvider {
                     throw new Exceptions.IllegalSeedProperty(e);
                 }
             }
-        }
 
-        return seed;
+            return seed;
+        }
     }
 
     static synchronized void reset() {
@@ -1,19 +1,15 @@
 package j8spec;
 
-import java.util.List;
-
-import static java.util.Arrays.asList;
-import static java.util.Collections.unmodifiableList;
+import java.util.Arrays;
 
 final class Rank implements Comparable<Rank> {
-    private final List<Integer> values;
-
-    Rank(List<Integer> values) {
-        this.values = unmodifiableList(values);
-    }
+    private final int[] values;
 
-    Rank(Integer ... values) {
-        this(asList(values));
+    /**
+     * @param values rank values, owned by the new rank: callers must not change them afterwards
+     */
+    Rank(int ... values) {
+        this.values = values;
     }
 
     @Override
@@ -23,31 +19,31 @@ final class Rank implements Comparable<Rank> {
 
         Rank rank = (Rank) o;
 
-        return values.equals(rank.values);
+        return Arrays.equals(values, rank.values);
 
     }
 
     @Override
     public int hashCode() {
-        return values.hashCode();
+        return Arrays.hashCode(values);
     }
 
     @Override
     public String toString() {
-        return values.toString();
+        return Arrays.toString(values);
     }
 
     @Override
     public int compareTo(Rank rank) {
-        int size = Math.min(values.size(), rank.values.size());
+        int size = Math.min(values.length, rank.values.length);
 
         for (int i = 0; i < size; i++) {
-            int result = values.get(i) - rank.values.get(i);
+            int result = Integer.compare(values[i], rank.values[i]);
             if (result != 0) {
                 return result;
             }
         }
 
-        return values.size() - rank.values.size();
+        return Integer.compare(values.length, rank.values.length);
     }
 }
@@ -1,8 +1,8 @@
 package j8spec;
 
-import java.util.Collections;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Deque;
-import java.util.LinkedList;
 import java.util.Random;
 import java.util.logging.Logger;
 
@@ -11,8 +11,14 @@ final class RankGenerator {
     private static final Logger LOG = Logger.getLogger("j8spec.RankGenerator");
 
     private interface Strategy {
-        Integer initialValue();
-        Integer nextValue(Integer currentValue);
+        int initialValue();
+        int nextValue(int currentValue);
+
+        /**
+         * @return strategy for an inner group, so the values it generates do not change the values generated by
+         * this strategy for the next examples and groups, no matter how many examples the inner group has
+         */
+        Strategy fork();
     }
 
     private static final class IncrementalStrategy implements Strategy {
@@ -21,36 +27,47 @@ final class RankGenerator {
         private IncrementalStrategy() {}
 
         @Override
-        public Integer initialValue() {
+        public int initialValue() {
             return 0;
         }
 
         @Override
-        public Integer nextValue(Integer currentValue) {
+        public int nextValue(int currentValue) {
             return currentValue + 1;
         }
+
+        @Override
+        public Strategy fork() {
+            return this;
+        }
     }
 
     private static final class RandomStrategy implements Strategy {
         private final Random random;
 
-        RandomStrategy(Long seed) {
+        RandomStrategy(long seed) {
             this.random = new Random(seed);
         }
 
         @Override
-        public Integer initialValue() {
+        public int initialValue() {
             return random.nextInt();
         }
 
         @Override
-        public Integer nextValue(Integer currentValue) {
+        public int nextValue(int currentValue) {
             return random.nextInt();
         }
+
+        @Override
+        public Strategy fork() {
+            return new RandomStrategy(random.nextLong());
+        }
     }
 
-    private final Deque<Strategy> strategies = new LinkedList<>();
-    private final Deque<Integer> ranks = new LinkedList<>();
+    private final Deque<Strategy> strategies = new ArrayDeque<>();
+    private int[] ranks = new int[8];
+    private int depth = 0;
 
     void pushLevel(ExampleGroupConfiguration config) {
         switch (config.executionOrder()) {
@@ -78,29 +95,35 @@ final class RankGenerator {
 
     private void pushLevel(Strategy strategy) {
         strategies.push(strategy);
-        ranks.push(strategies.peek().initialValue());
+        if (depth == ranks.length) {
+            ranks = Arrays.copyOf(ranks, depth * 2);
+        }
+        ranks[depth++] = strategy.initialValue();
     }
 
     private void pushLevel() {
-        pushLevel(strategies.peek());
+        pushLevel(strategies.peek().fork());
     }
 
     private void next() {
-        ranks.push(strategies.peek().nextValue(ranks.pop()));
+        ranks[depth - 1] = strategies.peek().nextValue(ranks[depth - 1]);
     }
 
     void popLevel() {
         strategies.pop();
-        ranks.pop();
+        depth--;
 
-        if (!ranks.isEmpty()) {
+        if (depth > 0) {
             next();
         }
     }
 
+    void skip() {
+        next();
+    }
+
     Rank generate() {
-        LinkedList<Integer> values = new LinkedList<>(ranks);
-        Collections.reverse(values);
+        int[] values = Arrays.copyOf(ranks, depth);
 
         next();
 
@@ -0,0 +1,54 @@
+package j8spec;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gives each tag name of a spec read its own bit.
+ *
+ * <p>
+ *     Names are added while the spec is defined, by the thread reading it, and only looked up afterwards. The
+ *     registry is dropped together with the examples of the spec.
+ * </p>
+ */
+final class TagRegistry {
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+
+    /**
+     * @param name tag name
+     * @return bit of the tag, added if the name is new
+     */
+    int intern(String name) {
+        Integer id = ids.get(name);
+        if (id == null) {
+            id = names.size();
+            ids.put(name, id);
+            names.add(name);
+        }
+        return id;
+    }
+
+    /**
+     * @param name tag name
+     * @return bit of the tag, <code>-1</code> if the name has not been added
+     */
+    int idOf(String name) {
+        Integer id = ids.get(name);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * @return number of tags added so far
+     */
+    int size() {
+        return names.size();
+    }
+
+    String nameOf(int id) {
+        return names.get(id);
+    }
+}
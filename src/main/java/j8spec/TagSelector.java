@@ -0,0 +1,156 @@
+package j8spec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Selects examples by their tags, including the tags inherited from the example groups that contain them.
+ *
+ * <p>
+ *     Examples are selected when they have any of the included tags, or when there are no included tags at all, as
+ *     long as they do not have any of the excluded tags. Tags are checked as sets of bits, so selecting an example
+ *     costs the same no matter the number of tags. The selected tag names are only looked up in the tags of each spec,
+ *     never added to them, so tags that no spec uses do not take a bit. Example groups with an excluded tag are skipped while the spec is
+ *     defined, so their definition blocks never run.
+ * </p>
+ *
+ * @since 3.1.0
+ */
+public final class TagSelector implements ExampleSelector {
+
+    /**
+     * Tag selector builder.
+     * @since 3.1.0
+     */
+    public static final class Builder {
+
+        private final List<String> includedTags = new ArrayList<>();
+        private final List<String> excludedTags = new ArrayList<>();
+
+        /**
+         * @param tags tags of the examples to include
+         * @return this
+         * @since 3.1.0
+         */
+        public Builder include(String... tags) {
+            for (String tag : tags) {
+                includedTags.add(tag);
+            }
+            return this;
+        }
+
+        /**
+         * @param tags tags of the examples to exclude
+         * @return this
+         * @since 3.1.0
+         */
+        public Builder exclude(String... tags) {
+            for (String tag : tags) {
+                excludedTags.add(tag);
+            }
+            return this;
+        }
+
+        /**
+         * @return new tag selector
+         * @since 3.1.0
+         */
+        public TagSelector build() {
+            return new TagSelector(
+                includedTags.toArray(new String[0]),
+                excludedTags.toArray(new String[0])
+            );
+        }
+    }
+
+    /**
+     * Included and excluded tags as bits of the tags of one spec, valid until the spec adds more tags.
+     */
+    private static final class ResolvedTags {
+        private final TagRegistry registry;
+        private final int registrySize;
+        private final Tags includedTags;
+        private final Tags excludedTags;
+
+        ResolvedTags(TagRegistry registry, String[] includedTags, String[] excludedTags) {
+            this.registry = registry;
+            this.registrySize = registry.size();
+            this.includedTags = Tags.lookUp(registry, includedTags);
+            this.excludedTags = Tags.lookUp(registry, excludedTags);
+        }
+    }
+
+    private final String[] includedTags;
+    private final String[] excludedTags;
+    private volatile ResolvedTags resolvedTags;
+
+    private TagSelector(String[] includedTags, String[] excludedTags) {
+        this.includedTags = includedTags;
+        this.excludedTags = excludedTags;
+    }
+
+    /**
+     * Builds a selector from the comma separated tags in the system properties <code>j8spec.tags.include</code> and
+     * <code>j8spec.tags.exclude</code>.
+     *
+     * @return selector for the tags in the system properties, or {@link ExampleSelector#ALL} if none is set
+     * @since 3.1.0
+     */
+    public static ExampleSelector fromSystemProperties() {
+        String included = System.getProperty("j8spec.tags.include", "");
+        String excluded = System.getProperty("j8spec.tags.exclude", "");
+        if (included.trim().isEmpty() && excluded.trim().isEmpty()) {
+            return ALL;
+        }
+
+        return new Builder()
+            .include(split(included))
+            .exclude(split(excluded))
+            .build();
+    }
+
+    private static String[] split(String tags) {
+        List<String> result = new ArrayList<>();
+        for (String tag : tags.split(",")) {
+            if (!tag.trim().isEmpty()) {
+                result.add(tag.trim());
+            }
+        }
+        return result.toArray(new String[0]);
+    }
+
+    @Override
+    public boolean selects(List<String> containerDescriptions, String description) {
+        return selects(containerDescriptions, description, Tags.NONE);
+    }
+
+    @Override
+    public boolean selects(List<String> containerDescriptions, String description, Tags tags) {
+        if (tags.registry() == null) {
+            return includedTags.length == 0;
+        }
+
+        ResolvedTags resolved = resolve(tags);
+        return !tags.intersects(resolved.excludedTags)
+            && (includedTags.length == 0 || tags.intersects(resolved.includedTags));
+    }
+
+    @Override
+    public boolean mayContainSelectedExamples(List<String> groupDescriptions, Tags tags) {
+        if (tags.registry() == null) {
+            return true;
+        }
+
+        return !tags.intersects(resolve(tags).excludedTags);
+    }
+
+    private ResolvedTags resolve(Tags tags) {
+        ResolvedTags resolved = resolvedTags;
+        TagRegistry registry = tags.registry();
+        if (resolved == null || resolved.registry != registry || resolved.registrySize != registry.size()) {
+            resolved = new ResolvedTags(registry, includedTags, excludedTags);
+            resolvedTags = resolved;
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,209 @@
+package j8spec;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Immutable set of tags of an example or example group.
+ *
+ * <p>
+ *     Tag names get a bit in a registry that belongs to the spec being read, so checking if two sets of tags of the
+ *     same spec have tags in common only compares a few words, without looking at the names. Sets of tags created
+ *     outside a spec definition, or from different specs, are compared by name.
+ * </p>
+ *
+ * @since 3.1.0
+ */
+public final class Tags {
+
+    /**
+     * Empty set of tags.
+     * @since 3.1.0
+     */
+    public static final Tags NONE = new Tags(null, new long[0]);
+
+    private final TagRegistry registry;
+    private final long[] words;
+
+    private Tags(TagRegistry registry, long[] words) {
+        this.registry = registry;
+        this.words = words;
+    }
+
+    /**
+     * @param names tag names
+     * @return set of the given tags
+     * @since 3.1.0
+     */
+    public static Tags of(String... names) {
+        if (names.length == 0) {
+            return NONE;
+        }
+
+        ExampleGroupContext context = J8Spec.activeContext();
+        return of(context == null ? new TagRegistry() : context.tagRegistry(), names);
+    }
+
+    private static Tags of(TagRegistry registry, String... names) {
+        long[] words = new long[0];
+        for (String name : names) {
+            words = set(words, registry.intern(name));
+        }
+        return new Tags(registry, words);
+    }
+
+    /**
+     * @param registry registry of the tags
+     * @param names tag names
+     * @return set of the given tags that are in the registry, without adding the others to it
+     */
+    static Tags lookUp(TagRegistry registry, String... names) {
+        if (registry == null) {
+            return NONE;
+        }
+
+        long[] words = new long[0];
+        for (String name : names) {
+            int id = registry.idOf(name);
+            if (id >= 0) {
+                words = set(words, id);
+            }
+        }
+        return words.length == 0 ? NONE : new Tags(registry, words);
+    }
+
+    private static long[] set(long[] words, int id) {
+        if (id / 64 >= words.length) {
+            words = Arrays.copyOf(words, id / 64 + 1);
+        }
+        words[id / 64] |= 1L << id;
+        return words;
+    }
+
+    TagRegistry registry() {
+        return registry;
+    }
+
+    Tags union(Tags other) {
+        if (other.isSubsetOf(this)) {
+            return this;
+        }
+        if (this.isSubsetOf(other)) {
+            return other;
+        }
+
+        if (registry != other.registry) {
+            Set<String> names = new LinkedHashSet<>(names());
+            names.addAll(other.names());
+            return of(new TagRegistry(), names.toArray(new String[0]));
+        }
+
+        long[] union = Arrays.copyOf(words, Math.max(words.length, other.words.length));
+        for (int i = 0; i < other.words.length; i++) {
+            union[i] |= other.words[i];
+        }
+        return new Tags(registry, union);
+    }
+
+    private boolean isSubsetOf(Tags other) {
+        if (registry != other.registry && !isEmpty()) {
+            for (String name : names()) {
+                if (!other.contains(name)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        for (int i = 0; i < words.length; i++) {
+            long otherWord = i < other.words.length ? other.words[i] : 0;
+            if ((words[i] & ~otherWord) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean intersects(Tags other) {
+        if (registry != other.registry) {
+            if (isEmpty() || other.isEmpty()) {
+                return false;
+            }
+            for (String name : names()) {
+                if (other.contains(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int length = Math.min(words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param name tag name
+     * @return <code>true</code> if this set contains the given tag
+     * @since 3.1.0
+     */
+    public boolean contains(String name) {
+        if (registry == null) {
+            return false;
+        }
+
+        int id = registry.idOf(name);
+        return id >= 0 && id / 64 < words.length && (words[id / 64] & (1L << id)) != 0;
+    }
+
+    /**
+     * @return names of the tags in this set
+     * @since 3.1.0
+     */
+    public Set<String> names() {
+        Set<String> names = new LinkedHashSet<>();
+        for (int i = 0; i < words.length; i++) {
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                names.add(registry.nameOf(i * 64 + Long.numberOfTrailingZeros(word)));
+            }
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Tags)) {
+            return false;
+        }
+        Tags other = (Tags) o;
+        return isSubsetOf(other) && other.isSubsetOf(this);
+    }
+
+    @Override
+    public int hashCode() {
+        return names().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return names().toString();
+    }
+}
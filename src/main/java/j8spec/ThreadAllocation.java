@@ -0,0 +1,138 @@
+package j8spec;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.logging.Logger;
+
+/**
+ * Measures the number of bytes allocated by the current thread.
+ *
+ * <p>
+ *     Relies on {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}. Measuring allocations is
+ *     enabled for the whole JVM, if it is not already, the first time a measurement starts, i.e. when the first
+ *     example with an allocation budget runs, or the first example runs while example listeners are registered.
+ *     Allocations cannot be measured on JVMs that do not support it, nor on virtual threads.
+ * </p>
+ */
+final class ThreadAllocation {
+
+    private static final Logger LOG = Logger.getLogger("j8spec.ThreadAllocation");
+
+    private static final com.sun.management.ThreadMXBean MX_BEAN = allocationMXBean();
+
+    /**
+     * Enables measuring allocations when first used.
+     */
+    private static final class Enabled {
+
+        /**
+         * Bytes allocated by a measurement itself, subtracted from every measurement. Calibrated on a platform thread,
+         * since allocations cannot be measured on virtual threads.
+         */
+        private static final long OVERHEAD = enable();
+
+        private static long enable() {
+            if (!MX_BEAN.isThreadAllocatedMemoryEnabled()) {
+                MX_BEAN.setThreadAllocatedMemoryEnabled(true);
+            }
+
+            long overhead = measureOverhead();
+            if (overhead >= 0) {
+                return overhead;
+            }
+
+            long[] platformThreadOverhead = {0};
+            Thread calibration = new Thread(() -> platformThreadOverhead[0] = Math.max(0, measureOverhead()));
+            calibration.setName("j8spec-allocation-calibration");
+            calibration.setDaemon(true);
+            calibration.start();
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    calibration.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return platformThreadOverhead[0];
+        }
+
+        /**
+         * @return bytes allocated by a measurement in the current thread, negative if it cannot measure them
+         */
+        private static long measureOverhead() {
+            long overhead = Long.MAX_VALUE;
+            for (int i = 0; i < 16; i++) {
+                long start = currentThreadAllocatedBytes();
+                long end = currentThreadAllocatedBytes();
+                if (start < 0 || end < 0) {
+                    return -1;
+                }
+                overhead = Math.min(overhead, end - start);
+            }
+            return overhead;
+        }
+
+        static void ensureEnabled() {}
+    }
+
+    private ThreadAllocation() {}
+
+    private static com.sun.management.ThreadMXBean allocationMXBean() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            if (allocationMXBean.isThreadAllocatedMemorySupported()) {
+                return allocationMXBean;
+            }
+        }
+
+        LOG.info("thread allocated memory not supported, allocations will not be measured");
+        return null;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        return MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * @return <code>true</code> if the JVM can measure allocations, even though it may not on virtual threads
+     */
+    static boolean supported() {
+        return MX_BEAN != null;
+    }
+
+    /**
+     * Starts a measurement in the current thread.
+     *
+     * @return value to be given to {@link #allocatedBytesSince(long)}, negative if allocations cannot be measured
+     */
+    static long start() {
+        if (MX_BEAN == null) {
+            return -1;
+        }
+        Enabled.ensureEnabled();
+        return currentThreadAllocatedBytes();
+    }
+
+    /**
+     * @param start value returned by {@link #start()} in the current thread
+     * @return bytes allocated by the current thread since <code>start</code>, <code>-1</code> if allocations cannot
+     * be measured
+     */
+    static long allocatedBytesSince(long start) {
+        if (start < 0) {
+            return -1;
+        }
+
+        long end = currentThreadAllocatedBytes();
+        if (end < 0) {
+            return -1;
+        }
+        return Math.max(0, end - start - Enabled.OVERHEAD);
+    }
+}
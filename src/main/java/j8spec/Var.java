@@ -6,7 +6,9 @@ package j8spec;
  */
 public final class Var<T> {
 
-    T value;
+    private final int id;
+    private T value;
+    private VarInitializer<T> lazyInitializer;
 
     /**
      * Creates a wrapper object to allow "final" variables to have their value modified. The initial
@@ -18,7 +20,7 @@ public final class Var<T> {
      */
     @Deprecated
     public static <T> Var<T> var() {
-        return new Var<>();
+        return J8Spec.var();
     }
 
     /**
@@ -31,7 +33,7 @@ public final class Var<T> {
      */
     @Deprecated
     public static <T> T var(Var<T> var) {
-        return var.value;
+        return var.get();
     }
 
     /**
@@ -45,8 +47,66 @@ public final class Var<T> {
      */
     @Deprecated
     public static <T> T var(Var<T> var, T value) {
-        return var.value = value;
+        return var.set(value);
     }
 
-    Var() {}
+    Var(int id) {
+        this.id = id;
+    }
+
+    T get() {
+        VarScope scope = scope();
+        Object scopedValue = scope == null ? VarScope.UNSET : scope.get(id);
+        if (scopedValue == VarScope.UNSET) {
+            if (lazyInitializer != null) {
+                value = lazyInitializer.initialValue();
+                lazyInitializer = null;
+            }
+            return value;
+        }
+
+        if (scopedValue instanceof VarInitializer) {
+            @SuppressWarnings("unchecked")
+            VarInitializer<T> initializer = (VarInitializer<T>) scopedValue;
+            T initialValue = initializer.initialValue();
+            scope.set(id, initialValue);
+            return initialValue;
+        }
+
+        @SuppressWarnings("unchecked")
+        T typedValue = (T) scopedValue;
+        return typedValue;
+    }
+
+    T set(T value) {
+        VarScope scope = scope();
+        if (scope == null) {
+            lazyInitializer = null;
+            return this.value = value;
+        }
+
+        scope.set(id, value);
+        return value;
+    }
+
+    void initializeLazily(VarInitializer<T> initializer) {
+        VarScope scope = scope();
+        if (scope == null) {
+            lazyInitializer = initializer;
+            value = null;
+        } else {
+            scope.set(id, initializer);
+        }
+    }
+
+    void release() {
+        if (scope() == null) {
+            lazyInitializer = null;
+            value = null;
+        }
+    }
+
+    private VarScope scope() {
+        return id < 0 ? null : VarScope.current();
+    }
 }
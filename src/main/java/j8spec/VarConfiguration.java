@@ -0,0 +1,59 @@
+package j8spec;
+
+import static j8spec.VarInitializationMode.EAGER;
+import static j8spec.VarInitializationMode.LAZY_PER_EXAMPLE;
+import static j8spec.VarInitializationMode.LAZY_PER_GROUP;
+
+/**
+ * Represents a variable initializer configuration.
+ * @since 3.1.0
+ */
+public final class VarConfiguration {
+
+    /**
+     * Variable initializer configuration builder.
+     * @since 3.1.0
+     */
+    public static final class Builder {
+
+        private VarInitializationMode initializationMode = EAGER;
+
+        /**
+         * Initializes the variable only when it is read by an example or hook. The value is kept until the
+         * example finishes.
+         *
+         * @return this
+         * @since 3.1.0
+         */
+        public Builder lazy() {
+            this.initializationMode = LAZY_PER_EXAMPLE;
+            return this;
+        }
+
+        /**
+         * Initializes the variable only when it is read by an example or hook. The value is shared by the examples
+         * of the example group and kept until all of them finish.
+         *
+         * @return this
+         * @since 3.1.0
+         */
+        public Builder lazyPerGroup() {
+            this.initializationMode = LAZY_PER_GROUP;
+            return this;
+        }
+
+        VarConfiguration build() {
+            return new VarConfiguration(initializationMode);
+        }
+    }
+
+    private final VarInitializationMode initializationMode;
+
+    private VarConfiguration(VarInitializationMode initializationMode) {
+        this.initializationMode = initializationMode;
+    }
+
+    VarInitializationMode initializationMode() {
+        return initializationMode;
+    }
+}
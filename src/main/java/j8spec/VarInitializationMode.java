@@ -0,0 +1,7 @@
+package j8spec;
+
+enum VarInitializationMode {
+    EAGER,
+    LAZY_PER_EXAMPLE,
+    LAZY_PER_GROUP
+}
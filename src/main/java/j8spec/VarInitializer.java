@@ -1,23 +1,91 @@
 package j8spec;
 
-import static j8spec.J8Spec.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
+import static j8spec.VarInitializationMode.EAGER;
+import static j8spec.VarInitializationMode.LAZY_PER_GROUP;
+
+/**
+ * Initializes a variable before each example, either with a value computed once or lazily when it is first read.
+ *
+ * <p>
+ *     Values computed once are memoized with a lock instead of a monitor, so initialization functions that block do
+ *     not pin virtual threads, and a <code>null</code> value is memoized like any other value.
+ * </p>
+ */
 class VarInitializer<T> implements UnsafeBlock {
 
     private final Var<T> variable;
     private final UnsafeFunction<T> function;
+    private final VarInitializationMode initializationMode;
+    private final Lock lock = new ReentrantLock();
+    private volatile boolean initialized;
     private T value;
 
     VarInitializer(Var<T> variable, UnsafeFunction<T> function) {
+        this(variable, function, EAGER);
+    }
+
+    VarInitializer(Var<T> variable, UnsafeFunction<T> function, VarInitializationMode initializationMode) {
         this.variable = variable;
         this.function = function;
+        this.initializationMode = initializationMode;
     }
 
     @Override
     public void tryToExecute() throws Throwable {
-        if (value == null) {
-            value = function.tryToGet();
+        if (initializationMode == EAGER) {
+            variable.set(memoizedValue());
+        } else {
+            variable.initializeLazily(this);
+        }
+    }
+
+    private T memoizedValue() throws Throwable {
+        if (!initialized) {
+            lock.lock();
+            try {
+                if (!initialized) {
+                    value = function.tryToGet();
+                    initialized = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return value;
+    }
+
+    T initialValue() {
+        try {
+            return initializationMode == LAZY_PER_GROUP ? memoizedValue() : function.tryToGet();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new Exceptions.VariableInitializationFailed(t);
+        }
+    }
+
+    boolean initializedLazily() {
+        return initializationMode != EAGER;
+    }
+
+    void exampleFinished() {
+        variable.release();
+    }
+
+    void groupFinished() {
+        if (initializationMode != LAZY_PER_GROUP) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            initialized = false;
+            value = null;
+        } finally {
+            lock.unlock();
         }
-        var(variable, value);
     }
 }
@@ -0,0 +1,94 @@
+package j8spec;
+
+import java.util.Arrays;
+
+/**
+ * Values of the variables of a spec, as seen by a running example or example group.
+ *
+ * <p>
+ *     Only used by specs that isolate their variables. Each running example gets its own scope, linked to the scope
+ *     of its example group, which stores the values assigned by variable initializers and "before all" and "after
+ *     all" hooks. Values are stored in a slot array indexed by the id the
+ *     variable got when the spec was read, so variables can be read and written by examples running at the same
+ *     time without affecting each other.
+ * </p>
+ */
+final class VarScope {
+
+    static final Object UNSET = new Object();
+
+    private static final Object[] NO_VALUES = new Object[0];
+    private static final Object NULL = new Object();
+    private static final ThreadLocal<ThreadState> STATE = ThreadLocal.withInitial(ThreadState::new);
+
+    private static final class ThreadState {
+        private VarScope current;
+        private VarScope spareExampleScope;
+    }
+
+    private VarScope parent;
+    private Object[] values = NO_VALUES;
+
+    VarScope(VarScope parent) {
+        this.parent = parent;
+    }
+
+    static VarScope current() {
+        return STATE.get().current;
+    }
+
+    static VarScope enter(VarScope scope) {
+        ThreadState state = STATE.get();
+        VarScope previous = state.current;
+        state.current = scope;
+        return previous;
+    }
+
+    static void restore(VarScope previous) {
+        STATE.get().current = previous;
+    }
+
+    /**
+     * Enters a new example scope, reusing the one left by the last example executed by the current thread.
+     */
+    static VarScope enterExample(VarScope parent) {
+        ThreadState state = STATE.get();
+        VarScope scope = state.spareExampleScope;
+        if (scope == null) {
+            scope = new VarScope(parent);
+        } else {
+            state.spareExampleScope = null;
+            scope.parent = parent;
+        }
+
+        VarScope previous = state.current;
+        state.current = scope;
+        return previous;
+    }
+
+    static void exitExample(VarScope previous) {
+        ThreadState state = STATE.get();
+        VarScope scope = state.current;
+        Arrays.fill(scope.values, null);
+        scope.parent = null;
+        state.spareExampleScope = scope;
+        state.current = previous;
+    }
+
+    Object get(int id) {
+        for (VarScope scope = this; scope != null; scope = scope.parent) {
+            if (id < scope.values.length && scope.values[id] != null) {
+                Object value = scope.values[id];
+                return value == NULL ? null : value;
+            }
+        }
+        return UNSET;
+    }
+
+    void set(int id, Object value) {
+        if (id >= values.length) {
+            values = Arrays.copyOf(values, Math.max(id + 1, values.length * 2));
+        }
+        values[id] = value == null ? NULL : value;
+    }
+}
@@ -0,0 +1,25 @@
+package j8spec.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Each example in a spec annotated with this gets its own values for the {@link j8spec.Var} objects of the spec,
+ * so the examples can run in parallel.
+ *
+ * <p>
+ * Variable initializers run once per example group, before its "before all" hooks, and lazy initializers run again
+ * for each example. Examples see the values assigned by "before all" hooks, but the values they assign are only
+ * visible to themselves: other examples and "after all" hooks do not see them.
+ * </p>
+ *
+ * @since 3.1.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Inherited
+public @interface IsolatedVars {
+}
@@ -1,8 +1,9 @@
 package j8spec.junit;
 
 import j8spec.Example;
+import j8spec.Exceptions;
+import org.junit.AssumptionViolatedException;
 import org.junit.internal.runners.statements.ExpectException;
-import org.junit.internal.runners.statements.FailOnTimeout;
 import org.junit.runners.model.Statement;
 
 final class ExampleStatement extends Statement {
@@ -17,9 +18,13 @@ final class ExampleStatement extends Statement {
         }
 
         if (example.shouldFailOnTimeout()) {
-            statement = FailOnTimeout.builder()
-                .withTimeout(example.timeout(), example.timeoutUnit())
-                .build(statement);
+            statement = new TimeoutStatement(
+                statement,
+                example.timeout(),
+                example.timeoutUnit(),
+                example::abandon,
+                example.shouldFailOnAllocationBudget()
+            );
         }
 
         return statement;
@@ -31,6 +36,10 @@ final class ExampleStatement extends Statement {
 
     @Override
     public void evaluate() throws Throwable {
-        example.tryToExecute();
+        try {
+            example.tryToExecute();
+        } catch (Exceptions.BeforeAllHookFailed e) {
+            throw new AssumptionViolatedException(e.getMessage(), e);
+        }
     }
 }
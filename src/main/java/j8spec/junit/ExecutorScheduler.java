@@ -0,0 +1,81 @@
+package j8spec.junit;
+
+import org.junit.runners.model.RunnerScheduler;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+
+abstract class ExecutorScheduler implements RunnerScheduler {
+
+    private final ExecutorService executor;
+    private final Queue<Future<?>> tasks = new ConcurrentLinkedQueue<>();
+
+    ExecutorScheduler(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void schedule(Runnable childStatement) {
+        tasks.add(executor.submit(childStatement));
+    }
+
+    /**
+     * Waits for all scheduled examples, even if the calling thread is interrupted or some of them fail: the
+     * interruption is re-asserted and the first failure, as thrown by its example, is thrown once they have all
+     * finished, so the run is never reported as finished while examples are still running.
+     */
+    @Override
+    public void finished() {
+        boolean interrupted = false;
+        Throwable failure = null;
+        try {
+            Future<?> task;
+            while ((task = tasks.poll()) != null) {
+                while (true) {
+                    try {
+                        task.get();
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    } catch (ExecutionException e) {
+                        if (failure == null) {
+                            failure = originalFailure(task, e.getCause());
+                        }
+                        break;
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw new IllegalStateException(failure);
+        }
+    }
+
+    /**
+     * Fork/join tasks that failed in another thread rethrow a new exception of the same type whose cause is the one
+     * actually thrown.
+     */
+    private static Throwable originalFailure(Future<?> task, Throwable failure) {
+        Throwable cause = failure.getCause();
+        if (task instanceof ForkJoinTask && cause != null && cause.getClass() == failure.getClass()) {
+            return cause;
+        }
+        return failure;
+    }
+}
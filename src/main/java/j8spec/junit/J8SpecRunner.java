@@ -3,11 +3,17 @@ package j8spec.junit;
 import j8spec.Example;
 import j8spec.J8Spec;
 import org.junit.runner.Description;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.notification.Failure;
 import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.ParentRunner;
 import org.junit.runners.model.InitializationError;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -16,54 +22,166 @@ import static org.junit.runner.Description.createTestDescription;
 
 /**
  * JUnit runner for J8Spec specs.
+ *
+ * <p>
+ *     Examples run one after another, unless the system property <code>j8spec.parallel</code> is set to the number
+ *     of examples that can run at the same time (see {@link ParallelScheduler}) or to <code>virtual</code> to run
+ *     each example in its own virtual thread (see {@link VirtualThreadScheduler}).
+ * </p>
+ *
+ * <p>
+ *     The spec is read when the runner is created, but its examples are only built when they are first needed, after
+ *     any filter has been applied: filtered out examples are never built. Their descriptions are built once, using
+ *     the system properties <code>j8spec.junit.description.format</code> and
+ *     <code>j8spec.junit.description.separator</code> as they were when the runner was created. The hooks of each
+ *     example group are only compiled when its first example runs, so runners created just to discover or filter
+ *     specs do not pay for it.
+ * </p>
+ *
+ * <p>
+ *     Errors in the spec definition, such as duplicated blocks, are found while it is read, so creating the runner
+ *     fails with an {@link InitializationError}. Errors found while examples are built are reported as a failure of
+ *     the spec when it runs.
+ * </p>
+ *
  * @since 1.0.0
  */
 public final class J8SpecRunner extends ParentRunner<Example> {
 
     private final String specName;
-    private final Map<Example, Description> descriptions = new HashMap<>();
-    private final List<Example> examples;
+    private final String format;
+    private final String separator;
+    private final Iterator<Example> exampleIterator;
+    private final Map<List<String>, String> containerNames = new IdentityHashMap<>();
+    private final Map<Example, Description> descriptions = new IdentityHashMap<>();
+    private Filter filter = Filter.ALL;
+    private List<Example> examples;
+    private RuntimeException readFailure;
 
     public J8SpecRunner(Class<?> testClass) throws InitializationError {
         super(testClass);
+        specName = testClass.getName();
+        format = System.getProperty("j8spec.junit.description.format", "%1$s/%2$s");
+        separator = System.getProperty("j8spec.junit.description.separator", "/");
         try {
-            specName = testClass.getName();
-            examples = J8Spec.read(testClass);
+            exampleIterator = J8Spec.iterate(testClass, this::selects);
         } catch (Exception e) {
             throw new InitializationError(e);
         }
+        configureScheduler();
     }
 
-    @Override
-    protected List<Example> getChildren() {
-        return examples;
+    private boolean selects(List<String> containerDescriptions, String description) {
+        return filter == Filter.ALL || filter.shouldRun(describe(containerDescriptions, description));
+    }
+
+    private Description describe(List<String> containerDescriptions, String description) {
+        String containerName = containerNames.computeIfAbsent(
+            containerDescriptions,
+            path -> String.join(separator, tail(path))
+        );
+        return createTestDescription(specName, buildChildName(containerName, description));
+    }
+
+    private String buildChildName(String containerName, String description) {
+        if (containerName.isEmpty()) {
+            return description;
+        }
+
+        return String.format(format, containerName, description);
+    }
+
+    private static List<String> tail(List<String> containerDescriptions) {
+        return containerDescriptions.subList(1, containerDescriptions.size());
+    }
+
+    private void configureScheduler() throws InitializationError {
+        String parallelism = System.getProperty("j8spec.parallel", "");
+        if ("".equals(parallelism)) {
+            return;
+        }
+
+        if ("virtual".equals(parallelism)) {
+            setScheduler(new VirtualThreadScheduler());
+            return;
+        }
+
+        try {
+            int threads = Integer.parseInt(parallelism);
+            if (threads > 1) {
+                setScheduler(new ParallelScheduler(threads));
+            }
+        } catch (NumberFormatException e) {
+            throw new InitializationError("Illegal 'j8spec.parallel' property value: " + parallelism);
+        }
     }
 
+    /**
+     * Applies the filter while examples are built. If they have been built already, the examples filtered out are
+     * discarded, so their example groups do not wait for them to run their "after all" hooks.
+     *
+     * <p>
+     *     Filtered out examples never become {@link Example} objects, and the hooks of example groups without
+     *     examples left never run.
+     * </p>
+     *
+     * @since 3.1.0
+     */
     @Override
-    protected Description describeChild(Example example) {
-        if (!descriptions.containsKey(example)) {
-            descriptions.put(
-                example,
-                createTestDescription(specName, buildChildName(example))
-            );
+    public void filter(Filter filter) throws NoTestsRemainException {
+        if (examples != null) {
+            List<Example> remainingExamples = new ArrayList<>();
+            for (Example example : examples) {
+                if (filter.shouldRun(describeChild(example))) {
+                    remainingExamples.add(example);
+                } else {
+                    example.discard();
+                }
+            }
+            examples = remainingExamples;
+            super.filter(filter);
+            return;
+        }
+
+        this.filter = this.filter == Filter.ALL ? filter : this.filter.intersect(filter);
+        if (getChildren().isEmpty() && readFailure == null) {
+            throw new NoTestsRemainException();
         }
-        return descriptions.get(example);
     }
 
-    private String buildChildName(Example example) {
-        String format = System.getProperty("j8spec.junit.description.format", "%1$s/%2$s");
-        String separator = System.getProperty("j8spec.junit.description.separator", "/");
+    @Override
+    protected List<Example> getChildren() {
+        if (examples == null) {
+            List<Example> builtExamples = new ArrayList<>();
+            try {
+                while (exampleIterator.hasNext()) {
+                    Example example = exampleIterator.next();
+                    descriptions.put(example, describe(example.containerDescriptions(), example.description()));
+                    builtExamples.add(example);
+                }
+                examples = builtExamples;
+            } catch (RuntimeException e) {
+                readFailure = e;
+                examples = Collections.emptyList();
+            }
+        }
+        return examples;
+    }
 
-        List<String> containerDescriptions = tail(example.containerDescriptions());
-        if (containerDescriptions.isEmpty()) {
-            return example.description();
+    @Override
+    public void run(RunNotifier notifier) {
+        getChildren();
+        if (readFailure != null) {
+            notifier.fireTestFailure(new Failure(getDescription(), readFailure));
+            return;
         }
 
-        return String.format(format, String.join(separator, containerDescriptions), example.description());
+        super.run(notifier);
     }
 
-    private List<String> tail(List<String> containerDescriptions) {
-        return containerDescriptions.subList(1, containerDescriptions.size());
+    @Override
+    protected Description describeChild(Example example) {
+        return descriptions.get(example);
     }
 
     @Override
@@ -0,0 +1,38 @@
+package j8spec.junit;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runner scheduler that executes the examples of a spec concurrently using a work-stealing pool.
+ *
+ * <p>
+ *     Examples are submitted in the same order they would run sequentially, i.e. defined or random order, and
+ *     "before all" and "after all" hooks still run exactly once per example group.
+ * </p>
+ *
+ * <p>
+ *     It can be enabled using the system property <code>j8spec.parallel</code> or programmatically:
+ * </p>
+ *
+ * <pre>
+ *     runner.setScheduler(new ParallelScheduler(8));
+ * </pre>
+ *
+ * <p>
+ *     <b>Note:</b> {@link j8spec.Var} values are shared by all examples unless the spec is annotated with
+ *     {@link j8spec.annotation.IsolatedVars}, and examples that share any other state should not run in parallel.
+ * </p>
+ *
+ * @see VirtualThreadScheduler
+ * @since 3.1.0
+ */
+public final class ParallelScheduler extends ExecutorScheduler {
+
+    /**
+     * @param parallelism maximum number of examples executed at the same time
+     * @since 3.1.0
+     */
+    public ParallelScheduler(int parallelism) {
+        super(new ForkJoinPool(parallelism, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true));
+    }
+}
@@ -0,0 +1,116 @@
+package j8spec.junit;
+
+import org.junit.runners.model.Statement;
+import org.junit.runners.model.TestTimedOutException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Fails the statement when it takes longer than the given timeout.
+ *
+ * <p>
+ *     Like JUnit's <code>FailOnTimeout</code>, the statement runs in another thread and the calling thread stops
+ *     waiting for it at the deadline, so examples that ignore interruptions still time out. Instead of starting a new
+ *     platform thread per example, the statements run in virtual threads when the JVM supports them, so timed examples
+ *     running at the same time do not cost a platform thread each, and in a shared pool of daemon worker threads
+ *     otherwise (e.g. Java 8). Statements of examples with an allocation budget always run in the pool, since
+ *     allocations cannot be measured on virtual threads. At the deadline the worker is interrupted and left behind if
+ *     it does not stop, and the given callback is run, so whatever waits for the statement to finish does not wait
+ *     for the worker. A failure returned by the callback is added to the timeout failure as a suppressed exception.
+ * </p>
+ */
+final class TimeoutStatement extends Statement {
+
+    private static final String WORKER_NAME = "j8spec-timeout-worker";
+
+    private static final ExecutorService PLATFORM_WORKERS = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, WORKER_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final ExecutorService WORKERS = newWorkers();
+
+    private static ExecutorService newWorkers() {
+        ThreadFactory virtualThreadFactory = VirtualThreadScheduler.newVirtualThreadFactory(WORKER_NAME);
+        if (virtualThreadFactory != null) {
+            ExecutorService workers = VirtualThreadScheduler.newThreadPerTaskExecutor(virtualThreadFactory);
+            if (workers != null) {
+                return workers;
+            }
+        }
+        return PLATFORM_WORKERS;
+    }
+
+    private static final class Body implements Callable<Throwable> {
+        private final Statement statement;
+        private volatile Thread thread;
+
+        Body(Statement statement) {
+            this.statement = statement;
+        }
+
+        @Override
+        public Throwable call() {
+            thread = Thread.currentThread();
+            try {
+                statement.evaluate();
+                return null;
+            } catch (Throwable t) {
+                return t;
+            } finally {
+                Thread.interrupted();
+            }
+        }
+    }
+
+    private final Statement next;
+    private final long timeout;
+    private final TimeUnit timeUnit;
+    private final Supplier<Throwable> onTimeout;
+    private final ExecutorService workers;
+
+    TimeoutStatement(Statement next, long timeout, TimeUnit timeUnit, Supplier<Throwable> onTimeout,
+                     boolean platformThread) {
+        this.next = next;
+        this.timeout = timeout;
+        this.timeUnit = timeUnit;
+        this.onTimeout = onTimeout;
+        this.workers = platformThread ? PLATFORM_WORKERS : WORKERS;
+    }
+
+    @Override
+    public void evaluate() throws Throwable {
+        Body body = new Body(next);
+        Future<Throwable> result = workers.submit(body);
+        Throwable failure;
+        try {
+            failure = result.get(timeout, timeUnit);
+        } catch (TimeoutException e) {
+            Thread thread = body.thread;
+            StackTraceElement[] stackTrace = thread == null ? new StackTraceElement[0] : thread.getStackTrace();
+            result.cancel(true);
+            Throwable timeoutFailure = onTimeout.get();
+            TestTimedOutException exception = new TestTimedOutException(timeout, timeUnit);
+            exception.setStackTrace(stackTrace);
+            if (timeoutFailure != null) {
+                exception.addSuppressed(timeoutFailure);
+            }
+            throw exception;
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            throw e;
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
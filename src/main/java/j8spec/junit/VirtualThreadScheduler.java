@@ -0,0 +1,105 @@
+package j8spec.junit;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Logger;
+
+/**
+ * Runner scheduler that executes each example of a spec in its own virtual thread, which suits examples that
+ * spend most of their time blocked on I/O.
+ *
+ * <p>
+ *     When the JVM does not support virtual threads (e.g. Java 8), it falls back to the same work-stealing pool
+ *     used by {@link ParallelScheduler}, with one thread per available processor.
+ * </p>
+ *
+ * <p>
+ *     It can be enabled setting the system property <code>j8spec.parallel</code> to <code>virtual</code> or
+ *     programmatically:
+ * </p>
+ *
+ * <pre>
+ *     runner.setScheduler(new VirtualThreadScheduler());
+ * </pre>
+ *
+ * <p>
+ *     <b>Note:</b> by default all examples of a spec share the values of its {@link j8spec.Var} objects, so only
+ *     specs annotated with {@link j8spec.annotation.IsolatedVars} should use variables when running in parallel. In
+ *     those specs each example starts from the values assigned by the variable initializers and "before all" hooks
+ *     of its groups, and its own assignments are discarded when it finishes: they are not visible to other examples
+ *     nor to "after all" hooks. Objects referenced by variables are not copied, so mutating them is still shared.
+ * </p>
+ *
+ * @see ParallelScheduler
+ * @since 3.1.0
+ */
+public final class VirtualThreadScheduler extends ExecutorScheduler {
+
+    private static final Logger LOG = Logger.getLogger("j8spec.junit.VirtualThreadScheduler");
+
+    /**
+     * @return <code>true</code> if the JVM supports virtual threads, <code>false</code> otherwise
+     * @since 3.1.0
+     */
+    public static boolean isSupported() {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        if (executor == null) {
+            return false;
+        }
+        executor.shutdown();
+        return true;
+    }
+
+    private static ExecutorService newExecutor() {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        if (executor == null) {
+            LOG.info("virtual threads not supported, using work-stealing pool instead");
+            int parallelism = Runtime.getRuntime().availableProcessors();
+            executor = new ForkJoinPool(parallelism, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+        }
+        return executor;
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param name name of the created threads
+     * @return factory of virtual threads with the given name, <code>null</code> if the JVM does not support them
+     */
+    static ThreadFactory newVirtualThreadFactory(String name) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class).invoke(builder, name);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    static ExecutorService newThreadPerTaskExecutor(ThreadFactory threadFactory) {
+        try {
+            Method factory = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) factory.invoke(null, threadFactory);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @since 3.1.0
+     */
+    public VirtualThreadScheduler() {
+        super(newExecutor());
+    }
+}
@@ -0,0 +1,53 @@
+package j8spec;
+
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class DescriptionPathTest {
+
+    private final DescriptionPath spec = DescriptionPath.ROOT.child("spec");
+    private final DescriptionPath groupA = spec.child("group A");
+    private final DescriptionPath groupAA = groupA.child("group A.A");
+    private final DescriptionPath groupB = spec.child("group B");
+
+    @Test
+    public void lists_descriptions_from_the_outermost_group() {
+        assertThat(DescriptionPath.ROOT, is(emptyList()));
+        assertThat(spec, is(asList("spec")));
+        assertThat(groupAA, is(asList("spec", "group A", "group A.A")));
+    }
+
+    @Test
+    public void knows_its_parent() {
+        assertThat(groupAA.parent(), sameInstance(groupA));
+        assertThat(spec.parent(), sameInstance(DescriptionPath.ROOT));
+    }
+
+    @Test
+    public void starts_with_itself_and_outer_paths() {
+        assertThat(groupAA.startsWith(groupAA), is(true));
+        assertThat(groupAA.startsWith(groupA), is(true));
+        assertThat(groupAA.startsWith(spec), is(true));
+        assertThat(groupAA.startsWith(DescriptionPath.ROOT), is(true));
+    }
+
+    @Test
+    public void does_not_start_with_inner_or_sibling_paths() {
+        assertThat(groupA.startsWith(groupAA), is(false));
+        assertThat(groupAA.startsWith(groupB), is(false));
+        assertThat(groupB.startsWith(groupA), is(false));
+    }
+
+    @Test
+    public void does_not_start_with_equal_path_of_another_spec() {
+        DescriptionPath otherGroupA = DescriptionPath.ROOT.child("spec").child("group A");
+
+        assertThat(otherGroupA, is(groupA));
+        assertThat(groupAA.startsWith(otherGroupA), is(false));
+    }
+}
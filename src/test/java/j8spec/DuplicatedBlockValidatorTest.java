@@ -50,8 +50,8 @@ public class DuplicatedBlockValidatorTest {
 
         validator
             .startGroup(groupConfig().description("spec").build())
-                .varInitializer(v1, () -> "value 1")
-                .varInitializer(v1, () -> "value 2")
+                .varInitializer(varConfig().build(), v1, () -> "value 1")
+                .varInitializer(varConfig().build(), v1, () -> "value 2")
                 .example(exampleConfig().description("example 1").build(), NOOP)
             .endGroup();
     }
@@ -63,4 +63,8 @@ public class DuplicatedBlockValidatorTest {
     private ExampleGroupConfiguration.Builder groupConfig() {
         return new ExampleGroupConfiguration.Builder();
     }
-}
\ No newline at end of file
+
+    private VarConfiguration.Builder varConfig() {
+        return new VarConfiguration.Builder();
+    }
+}
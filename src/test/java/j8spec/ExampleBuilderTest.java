@@ -52,7 +52,7 @@ public class ExampleBuilderTest {
                 .example(exampleConfig().description("block 2").build(), NOOP)
                 .startGroup(groupConfig().description("describe A").build())
                     .example(exampleConfig().description("block A1").build(), NOOP)
-                    .example(exampleConfig().description("block A1").build(), NOOP)
+                    .example(exampleConfig().description("block A2").build(), NOOP)
                 .endGroup()
             .endGroup();
         List<Example> examples = builder.build();
@@ -245,6 +245,21 @@ public class ExampleBuilderTest {
         assertThat(examples.get(0).expected(), is(equalTo(Exception.class)));
     }
 
+    @Test
+    public void builds_examples_with_allocation_budget() {
+        ExampleBuilder builder = new ExampleBuilder(BLACK_LIST);
+        builder
+            .startGroup(groupConfig().description("SampleSpec").definedOrder().build())
+                .example(exampleConfig().description("block 1").maxAllocatedBytes(1024).build(), NOOP)
+                .example(exampleConfig().description("block 2").build(), NOOP)
+            .endGroup();
+        List<Example> examples = builder.build();
+
+        assertThat(examples.get(0).shouldFailOnAllocationBudget(), is(true));
+        assertThat(examples.get(0).maxAllocatedBytes(), is(1024L));
+        assertThat(examples.get(1).shouldFailOnAllocationBudget(), is(false));
+    }
+
     @Test
     public void initializes_variables_before_hooks() throws Throwable {
         final List<Object> values = new LinkedList<>();
@@ -253,7 +268,7 @@ public class ExampleBuilderTest {
         execute(
             new ExampleBuilder(BLACK_LIST)
                 .startGroup(groupConfig().description("SampleSpec").definedOrder().build())
-                    .varInitializer(v1, () -> "value")
+                    .varInitializer(varConfig().build(), v1, () -> "value")
                     .beforeAll(() -> values.add(var(v1)))
                     .beforeEach(() -> values.add(var(v1)))
                     .example(exampleConfig().description("block 1").build(), () -> values.add(var(v1)))
@@ -277,11 +292,11 @@ public class ExampleBuilderTest {
                 .startGroup(groupConfig().description("SampleSpec").definedOrder().build())
                     .beforeEach(() -> values.add(var(v1)))
                     .startGroup(groupConfig().description("group A").definedOrder().build())
-                        .varInitializer(v1, () -> "value for group A")
+                        .varInitializer(varConfig().build(), v1, () -> "value for group A")
                         .example(exampleConfig().description("block 1").build(), () -> values.add(var(v1)))
                     .endGroup()
                     .startGroup(groupConfig().description("group B").definedOrder().build())
-                        .varInitializer(v1, () -> "value for group B")
+                        .varInitializer(varConfig().build(), v1, () -> "value for group B")
                         .example(exampleConfig().description("block 1").build(), () -> values.add(var(v1)))
                     .endGroup()
                 .endGroup()
@@ -304,14 +319,14 @@ public class ExampleBuilderTest {
         execute(
             new ExampleBuilder(BLACK_LIST)
                 .startGroup(groupConfig().description("SampleSpec").definedOrder().build())
-                    .varInitializer(v1, () -> "var1 initial value")
-                    .varInitializer(v2, () -> "var2 initial value")
+                    .varInitializer(varConfig().build(), v1, () -> "var1 initial value")
+                    .varInitializer(varConfig().build(), v2, () -> "var2 initial value")
                     .beforeEach(() -> {
                         values.add(var(v1));
                         values.add(var(v2));
                     })
                     .startGroup(groupConfig().description("group A").definedOrder().build())
-                        .varInitializer(v1, () -> "var1 value for group A")
+                        .varInitializer(varConfig().build(), v1, () -> "var1 value for group A")
                         .example(exampleConfig().description("block 1").build(), () -> {
                             values.add(var(v1));
                             values.add(var(v2));
@@ -339,6 +354,53 @@ public class ExampleBuilderTest {
         )));
     }
 
+    @Test
+    public void builds_groups_with_many_examples_to_execute_hooks_just_once() throws Throwable {
+        UnsafeBlock beforeAll = mock(UnsafeBlock.class);
+        UnsafeBlock afterAll = mock(UnsafeBlock.class);
+
+        ExampleBuilder builder = new ExampleBuilder(BLACK_LIST);
+        builder
+            .startGroup(groupConfig().description("SampleSpec").definedOrder().build())
+                .beforeAll(beforeAll)
+                .afterAll(afterAll);
+        for (int i = 0; i < 200_000; i++) {
+            builder.example(exampleConfig().description("block " + i).build(), NOOP);
+        }
+        builder.endGroup();
+
+        execute(builder);
+
+        verify(beforeAll, times(1)).tryToExecute();
+        verify(afterAll, times(1)).tryToExecute();
+    }
+
+    @Test
+    public void builds_deeply_nested_groups_to_execute_hooks_just_once() throws Throwable {
+        UnsafeBlock beforeAll = mock(UnsafeBlock.class);
+        UnsafeBlock afterAll = mock(UnsafeBlock.class);
+        int depth = 2_000;
+
+        ExampleBuilder builder = new ExampleBuilder(BLACK_LIST);
+        builder
+            .startGroup(groupConfig().description("SampleSpec").definedOrder().build())
+                .beforeAll(beforeAll)
+                .afterAll(afterAll);
+        for (int i = 0; i < depth; i++) {
+            builder.startGroup(groupConfig().description("describe " + i).build());
+        }
+        builder.example(exampleConfig().description("block 1").build(), NOOP);
+        builder.example(exampleConfig().description("block 2").build(), NOOP);
+        for (int i = 0; i <= depth; i++) {
+            builder.endGroup();
+        }
+
+        execute(builder);
+
+        verify(beforeAll, times(1)).tryToExecute();
+        verify(afterAll, times(1)).tryToExecute();
+    }
+
     private void execute(BlockDefinitionVisitor visitor) throws Throwable {
         ExampleBuilder builder = (ExampleBuilder) visitor;
 
@@ -354,4 +416,8 @@ public class ExampleBuilderTest {
     private ExampleConfiguration.Builder exampleConfig() {
         return new ExampleConfiguration.Builder();
     }
-}
\ No newline at end of file
+
+    private VarConfiguration.Builder varConfig() {
+        return new VarConfiguration.Builder();
+    }
+}
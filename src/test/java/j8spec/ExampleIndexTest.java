@@ -0,0 +1,96 @@
+package j8spec;
+
+import j8spec.annotation.DefinedOrder;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static j8spec.J8Spec.*;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ExampleIndexTest {
+
+    @DefinedOrder
+    static class OrdersSpec {{
+        describe("Orders", () -> {
+            it("creates order", UnsafeBlock.NOOP);
+            it("refunds order", UnsafeBlock.NOOP);
+
+            describe("paid", () -> {
+                it("refund full amount", UnsafeBlock.NOOP);
+                it("refund partial amount", UnsafeBlock.NOOP);
+
+                describe("with coupon", () -> it("refund without coupon", UnsafeBlock.NOOP));
+            });
+
+            describe("pending", () -> it("cancels order", UnsafeBlock.NOOP));
+        });
+
+        describe("Customers", () -> it("refund credit", UnsafeBlock.NOOP));
+    }}
+
+    private static List<String> descriptions(List<Example> examples) {
+        List<String> descriptions = new ArrayList<>();
+        for (Example example : examples) {
+            descriptions.add(example.description());
+        }
+        return descriptions;
+    }
+
+    @Test
+    public void finds_examples_inside_path() {
+        ExampleIndex index = index(OrdersSpec.class);
+
+        assertThat(descriptions(index.withPrefix("Orders/paid")), is(asList(
+            "refund full amount",
+            "refund partial amount",
+            "refund without coupon"
+        )));
+        assertThat(descriptions(index.withPrefix("Orders/pending/cancels order")), is(asList("cancels order")));
+        assertThat(index.withPrefix("Orders/unknown").isEmpty(), is(true));
+    }
+
+    @Test
+    public void finds_examples_matching_glob_pattern() {
+        ExampleIndex index = index(OrdersSpec.class);
+
+        assertThat(descriptions(index.matching("Orders/**/refund*")), is(asList(
+            "refunds order",
+            "refund full amount",
+            "refund partial amount",
+            "refund without coupon"
+        )));
+        assertThat(descriptions(index.matching("*/refund ??edit")), is(asList("refund credit")));
+        assertThat(descriptions(index.matching("Orders/p*/*")), is(asList(
+            "refund full amount",
+            "refund partial amount",
+            "cancels order"
+        )));
+    }
+
+    @Test
+    public void finds_each_example_once_when_pattern_matches_it_in_different_ways() {
+        ExampleIndex index = index(OrdersSpec.class);
+
+        assertThat(descriptions(index.matching("**/**/cancels order")), is(asList("cancels order")));
+        assertThat(index.matching("**").size(), is(7));
+    }
+
+    @Test
+    public void keeps_order_of_indexed_examples() {
+        List<Example> examples = read(OrdersSpec.class);
+        List<Example> reversed = new ArrayList<>(examples);
+        Collections.reverse(reversed);
+
+        ExampleIndex index = ExampleIndex.of(reversed);
+
+        assertThat(descriptions(index.matching("Orders/paid/*")), is(asList(
+            "refund partial amount",
+            "refund full amount"
+        )));
+    }
+}
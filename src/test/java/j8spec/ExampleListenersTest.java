@@ -0,0 +1,211 @@
+package j8spec;
+
+import j8spec.annotation.DefinedOrder;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+import static j8spec.J8Spec.*;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ExampleListenersTest {
+
+    @DefinedOrder
+    static class ListenedSpec {{
+        beforeAll(UnsafeBlock.NOOP);
+        beforeEach(UnsafeBlock.NOOP);
+
+        it("block 1", UnsafeBlock.NOOP);
+
+        describe("describe A", () -> {
+            afterEach(UnsafeBlock.NOOP);
+            it("block A.1", () -> { throw new IllegalStateException(); });
+        });
+
+        afterAll(UnsafeBlock.NOOP);
+    }}
+
+    private static final class EventLog implements ExampleListener {
+        private final boolean synchronous;
+        private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        private final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+
+        EventLog(boolean synchronous) {
+            this.synchronous = synchronous;
+        }
+
+        @Override
+        public void onEvent(ExampleEvent event) {
+            String subject = event.example() == null
+                ? event.groupDescriptions().get(event.groupDescriptions().size() - 1)
+                : event.example().description();
+            events.add(event.type() + (event.hook() == null ? "" : " " + event.hook()) + " " + subject);
+            threads.add(Thread.currentThread());
+        }
+
+        @Override
+        public boolean synchronous() {
+            return synchronous;
+        }
+    }
+
+    private static void runListenedSpec() {
+        for (Example example : read(ListenedSpec.class)) {
+            try {
+                example.tryToExecute();
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    private static final List<String> EXPECTED_EVENTS = asList(
+        "SPEC_DEFINITION_STARTED j8spec.ExampleListenersTest$ListenedSpec",
+        "SPEC_DEFINITION_FINISHED j8spec.ExampleListenersTest$ListenedSpec",
+        "GROUP_STARTED j8spec.ExampleListenersTest$ListenedSpec",
+        "HOOK_STARTED BEFORE_ALL j8spec.ExampleListenersTest$ListenedSpec",
+        "HOOK_FINISHED BEFORE_ALL j8spec.ExampleListenersTest$ListenedSpec",
+        "EXAMPLE_STARTED block 1",
+        "HOOK_STARTED BEFORE_EACH j8spec.ExampleListenersTest$ListenedSpec",
+        "HOOK_FINISHED BEFORE_EACH j8spec.ExampleListenersTest$ListenedSpec",
+        "EXAMPLE_FINISHED block 1",
+        "GROUP_STARTED describe A",
+        "EXAMPLE_STARTED block A.1",
+        "HOOK_STARTED BEFORE_EACH j8spec.ExampleListenersTest$ListenedSpec",
+        "HOOK_FINISHED BEFORE_EACH j8spec.ExampleListenersTest$ListenedSpec",
+        "HOOK_STARTED AFTER_EACH describe A",
+        "HOOK_FINISHED AFTER_EACH describe A",
+        "EXAMPLE_FAILED block A.1",
+        "EXAMPLE_FINISHED block A.1",
+        "GROUP_FINISHED describe A",
+        "HOOK_STARTED AFTER_ALL j8spec.ExampleListenersTest$ListenedSpec",
+        "HOOK_FINISHED AFTER_ALL j8spec.ExampleListenersTest$ListenedSpec",
+        "GROUP_FINISHED j8spec.ExampleListenersTest$ListenedSpec"
+    );
+
+    @Test
+    public void notifies_synchronous_listeners_in_the_thread_running_examples() {
+        EventLog listener = new EventLog(true);
+        ExampleListeners.register(listener);
+        try {
+            runListenedSpec();
+        } finally {
+            ExampleListeners.unregister(listener);
+        }
+
+        assertThat(listener.events, is(EXPECTED_EVENTS));
+        assertThat(listener.threads, is(Collections.nCopies(EXPECTED_EVENTS.size(), Thread.currentThread())));
+    }
+
+    @Test
+    public void nests_example_events_inside_the_events_of_their_groups() {
+        EventLog listener = new EventLog(true);
+        ExampleListeners.register(listener);
+        try {
+            runListenedSpec();
+        } finally {
+            ExampleListeners.unregister(listener);
+        }
+
+        Deque<String> open = new ArrayDeque<>();
+        for (String event : listener.events) {
+            String type = event.substring(0, event.indexOf(' '));
+            String subject = event.substring(event.lastIndexOf(' ') + 1);
+            if (type.endsWith("_STARTED")) {
+                open.push(type.replace("_STARTED", "") + " " + subject);
+            } else if (type.endsWith("_FINISHED")) {
+                assertThat(event, open.pop(), is(type.replace("_FINISHED", "") + " " + subject));
+            }
+        }
+        assertThat(open.isEmpty(), is(true));
+    }
+
+    @Test
+    public void notifies_asynchronous_listeners_in_the_dispatcher_thread() {
+        EventLog listener = new EventLog(false);
+        ExampleListeners.register(listener);
+        try {
+            runListenedSpec();
+            ExampleListeners.flush();
+        } finally {
+            ExampleListeners.unregister(listener);
+        }
+
+        assertThat(listener.events, is(EXPECTED_EVENTS));
+        assertThat(listener.threads.get(0).getName(), is("j8spec-listener-dispatcher"));
+    }
+
+    @Test
+    public void keeps_notifying_asynchronous_listeners_after_a_listener_throws_an_error() {
+        ExampleListener failingListener = new ExampleListener() {
+            @Override
+            public void onEvent(ExampleEvent event) {
+                throw new AssertionError("listener failed");
+            }
+
+            @Override
+            public boolean synchronous() {
+                return false;
+            }
+        };
+        EventLog listener = new EventLog(false);
+        ExampleListeners.register(failingListener);
+        ExampleListeners.register(listener);
+        try {
+            runListenedSpec();
+            ExampleListeners.flush();
+        } finally {
+            ExampleListeners.unregister(failingListener);
+            ExampleListeners.unregister(listener);
+        }
+
+        assertThat(listener.events, is(EXPECTED_EVENTS));
+    }
+
+    @Test
+    public void parks_dispatcher_thread_without_timeout_while_there_are_no_events() throws InterruptedException {
+        EventLog listener = new EventLog(false);
+        ExampleListeners.register(listener);
+        try {
+            runListenedSpec();
+            ExampleListeners.flush();
+        } finally {
+            ExampleListeners.unregister(listener);
+        }
+
+        Thread dispatcher = listener.threads.get(0);
+        for (int i = 0; i < 100 && dispatcher.getState() != Thread.State.WAITING; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(dispatcher.getState(), is(Thread.State.WAITING));
+    }
+
+    @Test
+    public void drops_events_when_buffer_is_full() {
+        EventRingBuffer buffer = new EventRingBuffer(2);
+        List<ExampleEvent.Type> types = new ArrayList<>();
+        ExampleListener[] listeners = {event -> types.add(event.type())};
+
+        assertThat(buffer.publish(ExampleEvent.Type.GROUP_STARTED, DescriptionPath.ROOT, null, null, null, -1), is(true));
+        assertThat(buffer.publish(ExampleEvent.Type.GROUP_FINISHED, DescriptionPath.ROOT, null, null, null, -1), is(true));
+        assertThat(buffer.publish(ExampleEvent.Type.GROUP_STARTED, DescriptionPath.ROOT, null, null, null, -1), is(false));
+        assertThat(buffer.dropped(), is(1L));
+
+        assertThat(buffer.dispatchNext(listeners), is(true));
+        assertThat(buffer.publish(ExampleEvent.Type.EXAMPLE_STARTED, DescriptionPath.ROOT, null, null, null, -1), is(true));
+        assertThat(buffer.dispatchNext(listeners), is(true));
+        assertThat(buffer.dispatchNext(listeners), is(true));
+        assertThat(buffer.dispatchNext(listeners), is(false));
+
+        assertThat(types, is(asList(
+            ExampleEvent.Type.GROUP_STARTED,
+            ExampleEvent.Type.GROUP_FINISHED,
+            ExampleEvent.Type.EXAMPLE_STARTED
+        )));
+    }
+}
@@ -2,29 +2,40 @@ package j8spec;
 
 import org.junit.Test;
 
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static j8spec.J8Spec.*;
 import static j8spec.UnsafeBlock.NOOP;
 import static java.util.Arrays.asList;
-import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
 import static org.mockito.Mockito.*;
 
 public class ExampleTest {
 
+    private static volatile byte[] allocated;
+
     @Test
     public void runs_before_hooks_and_then_block() throws Throwable {
         final List<String> executionOrder = new ArrayList<>();
 
+        ExampleGroup group = new ExampleGroup.Builder()
+            .beforeAllHook(() -> executionOrder.add("beforeAll"))
+            .beforeEachHook(() -> executionOrder.add("beforeEach"))
+            .build();
+
         new Example.Builder()
             .description("example")
-            .beforeEachHooks(singletonList(() -> executionOrder.add("beforeEach")))
-            .beforeAllHooks(singletonList(() -> executionOrder.add("beforeAll")))
+            .group(group)
             .block(() -> executionOrder.add("block"))
             .rank(new Rank(0))
             .build()
@@ -41,10 +52,14 @@ public class ExampleTest {
     public void runs_block_and_then_after_hooks() throws Throwable {
         final List<String> executionOrder = new ArrayList<>();
 
+        ExampleGroup group = new ExampleGroup.Builder()
+            .afterEachHook(() -> executionOrder.add("afterEach"))
+            .afterAllHook(() -> executionOrder.add("afterAll"))
+            .build();
+
         new Example.Builder()
             .description("example")
-            .afterAllHooks(singletonList(() -> executionOrder.add("afterAll")))
-            .afterEachHooks(singletonList(() -> executionOrder.add("afterEach")))
+            .group(group)
             .block(() -> executionOrder.add("block"))
             .rank(new Rank(0))
             .build()
@@ -61,22 +76,24 @@ public class ExampleTest {
     public void runs_before_all_hooks_only_once() throws Throwable {
         UnsafeBlock beforeAllHook = mock(UnsafeBlock.class);
 
+        ExampleGroup group = new ExampleGroup.Builder()
+            .beforeAllHook(beforeAllHook)
+            .build();
+
         Example example1 = new Example.Builder()
             .description("example 1")
-            .beforeAllHooks(singletonList(beforeAllHook))
+            .group(group)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
         Example example2 = new Example.Builder()
             .description("example 2")
-            .beforeAllHooks(singletonList(beforeAllHook))
+            .group(group)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
-        example2.previous(example1);
-
         example1.tryToExecute();
         example2.tryToExecute();
 
@@ -87,29 +104,34 @@ public class ExampleTest {
     public void runs_before_all_hooks_only_once_when_hook_is_not_shared_with_the_previous_example() throws Throwable {
         UnsafeBlock beforeAllHook = mock(UnsafeBlock.class);
 
+        ExampleGroup outerGroup = new ExampleGroup.Builder()
+            .build();
+        ExampleGroup group = new ExampleGroup.Builder()
+            .parent(outerGroup)
+            .beforeAllHook(beforeAllHook)
+            .build();
+
         Example example1 = new Example.Builder()
             .description("example 1")
-            .beforeAllHooks(singletonList(beforeAllHook))
+            .group(group)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
         Example example2 = new Example.Builder()
             .description("example 2")
+            .group(outerGroup)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
         Example example3 = new Example.Builder()
             .description("example 3")
-            .beforeAllHooks(singletonList(beforeAllHook))
+            .group(group)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
-        example2.previous(example1);
-        example3.previous(example2);
-
         example1.tryToExecute();
         example2.tryToExecute();
         example3.tryToExecute();
@@ -121,50 +143,82 @@ public class ExampleTest {
     public void runs_before_all_hooks_only_once_when_first_example_has_no_hook() throws Throwable {
         UnsafeBlock beforeAllHook = mock(UnsafeBlock.class);
 
+        ExampleGroup outerGroup = new ExampleGroup.Builder()
+            .build();
+        ExampleGroup group = new ExampleGroup.Builder()
+            .parent(outerGroup)
+            .beforeAllHook(beforeAllHook)
+            .build();
+
         Example example1 = new Example.Builder()
             .description("example 1")
+            .group(outerGroup)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
         Example example2 = new Example.Builder()
             .description("example 2")
-            .beforeAllHooks(singletonList(beforeAllHook))
+            .group(group)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
-        example2.previous(example1);
-
         example1.tryToExecute();
         example2.tryToExecute();
 
         verify(beforeAllHook, times(1)).tryToExecute();
     }
 
+    @Test
+    public void runs_before_all_hooks_only_once_when_examples_run_concurrently() throws Throwable {
+        UnsafeBlock beforeAllHook = mock(UnsafeBlock.class);
+
+        ExampleGroup group = new ExampleGroup.Builder()
+            .beforeAllHook(beforeAllHook)
+            .build();
+
+        List<Example> examples = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            examples.add(new Example.Builder()
+                .description("example " + i)
+                .group(group)
+                .block(NOOP)
+                .rank(new Rank(i))
+                .build());
+        }
+
+        tryToExecuteConcurrently(examples);
+
+        verify(beforeAllHook, times(1)).tryToExecute();
+    }
+
     @Test
     public void runs_after_all_hooks_only_once() throws Throwable {
         UnsafeBlock afterAllHook = mock(UnsafeBlock.class);
 
+        ExampleGroup group = new ExampleGroup.Builder()
+            .afterAllHook(afterAllHook)
+            .build();
+
         Example example1 = new Example.Builder()
             .description("example 1")
-            .afterAllHooks(singletonList(afterAllHook))
+            .group(group)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
         Example example2 = new Example.Builder()
             .description("example 2")
-            .afterAllHooks(singletonList(afterAllHook))
+            .group(group)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
-        example1.next(example2);
-
         example1.tryToExecute();
-        example2.tryToExecute();
+        verify(afterAllHook, never()).tryToExecute();
 
+        example2.tryToExecute();
         verify(afterAllHook, times(1)).tryToExecute();
     }
 
@@ -172,29 +226,34 @@ public class ExampleTest {
     public void runs_after_all_hooks_only_once_when_hook_is_not_shared_with_the_next_example() throws Throwable {
         UnsafeBlock afterAllHook = mock(UnsafeBlock.class);
 
+        ExampleGroup outerGroup = new ExampleGroup.Builder()
+            .build();
+        ExampleGroup group = new ExampleGroup.Builder()
+            .parent(outerGroup)
+            .afterAllHook(afterAllHook)
+            .build();
+
         Example example1 = new Example.Builder()
             .description("example 1")
-            .afterAllHooks(singletonList(afterAllHook))
+            .group(group)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
         Example example2 = new Example.Builder()
             .description("example 2")
+            .group(outerGroup)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
         Example example3 = new Example.Builder()
             .description("example 2")
-            .afterAllHooks(singletonList(afterAllHook))
+            .group(group)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
-        example1.next(example2);
-        example2.next(example3);
-
         example1.tryToExecute();
         example2.tryToExecute();
         example3.tryToExecute();
@@ -206,39 +265,69 @@ public class ExampleTest {
     public void runs_after_all_hooks_only_once_when_last_example_has_no_hook() throws Throwable {
         UnsafeBlock afterAllHook = mock(UnsafeBlock.class);
 
+        ExampleGroup outerGroup = new ExampleGroup.Builder()
+            .build();
+        ExampleGroup group = new ExampleGroup.Builder()
+            .parent(outerGroup)
+            .afterAllHook(afterAllHook)
+            .build();
+
         Example example1 = new Example.Builder()
             .description("example 1")
-            .afterAllHooks(singletonList(afterAllHook))
+            .group(group)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
         Example example2 = new Example.Builder()
             .description("example 2")
+            .group(outerGroup)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
-        example1.next(example2);
-
         example1.tryToExecute();
         example2.tryToExecute();
 
         verify(afterAllHook, times(1)).tryToExecute();
     }
 
+    @Test
+    public void runs_after_all_hooks_only_once_when_examples_run_concurrently() throws Throwable {
+        final List<String> executionOrder = Collections.synchronizedList(new ArrayList<>());
+
+        ExampleGroup group = new ExampleGroup.Builder()
+            .afterAllHook(() -> executionOrder.add("afterAll"))
+            .build();
+
+        List<Example> examples = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            examples.add(new Example.Builder()
+                .description("example " + i)
+                .group(group)
+                .block(() -> executionOrder.add("block"))
+                .rank(new Rank(i))
+                .build());
+        }
+
+        tryToExecuteConcurrently(examples);
+
+        assertThat(executionOrder.size(), is(101));
+        assertThat(executionOrder.indexOf("afterAll"), is(100));
+    }
+
     @Test(expected = Exceptions.MultipleFailures.class)
     public void collects_exceptions_from_block_and_after_hooks() throws Throwable {
+        ExampleGroup group = new ExampleGroup.Builder()
+            .afterEachHook(() -> { throw new Exception("after each 1"); })
+            .afterEachHook(() -> { throw new Exception("after each 2"); })
+            .afterAllHook(() -> { throw new Exception("after all 1"); })
+            .afterAllHook(() -> { throw new Exception("after all 2"); })
+            .build();
+
         Example example = new Example.Builder()
             .description("example 1")
-            .afterEachHooks(asList(
-                () -> { throw new Exception("after each 1"); },
-                () -> { throw new Exception("after each 2"); }
-            ))
-            .afterAllHooks(asList(
-                () -> { throw new Exception("after all 1"); },
-                () -> { throw new Exception("after all 2"); }
-            ))
+            .group(group)
             .block(() -> { throw new Exception("block"); })
             .rank(new Rank(0))
             .build();
@@ -282,29 +371,231 @@ public class ExampleTest {
 
     @Test
     public void indicates_if_example_should_be_ignored_when_before_all_hook_fails() throws Throwable {
-        UnsafeBlock beforeAllHook = () -> { throw new Exception(); };
+        ExampleGroup group = new ExampleGroup.Builder()
+            .beforeAllHook(() -> { throw new Exception(); })
+            .build();
 
         Example example1 = new Example.Builder()
             .description("example 1")
-            .beforeAllHooks(singletonList(beforeAllHook))
+            .group(group)
             .block(() -> {})
             .rank(new Rank(0))
             .build();
 
         Example example2 = new Example.Builder()
             .description("example 2")
-            .beforeAllHooks(singletonList(beforeAllHook))
+            .group(group)
             .block(() -> {})
             .rank(new Rank(0))
             .build();
 
-        example2.previous(example1);
+        try { example1.tryToExecute(); } catch (Throwable ignored) {}
+
+        assertThat(example2.shouldBeIgnored(), is(true));
+    }
+
+    @Test
+    public void indicates_if_example_should_be_ignored_when_before_all_hook_of_outer_group_fails() throws Throwable {
+        ExampleGroup outerGroup = new ExampleGroup.Builder()
+            .beforeAllHook(() -> { throw new Exception(); })
+            .build();
+        ExampleGroup group = new ExampleGroup.Builder()
+            .parent(outerGroup)
+            .build();
+
+        Example example1 = new Example.Builder()
+            .description("example 1")
+            .group(outerGroup)
+            .block(() -> {})
+            .rank(new Rank(0))
+            .build();
+
+        Example example2 = new Example.Builder()
+            .description("example 2")
+            .group(group)
+            .block(() -> {})
+            .rank(new Rank(0))
+            .build();
 
         try { example1.tryToExecute(); } catch (Throwable ignored) {}
 
         assertThat(example2.shouldBeIgnored(), is(true));
     }
 
+    @Test
+    public void indicates_if_example_should_be_ignored_only_in_groups_affected_by_before_all_hook_failure() throws Throwable {
+        ExampleGroup rootGroup = new ExampleGroup.Builder().build();
+        ExampleGroup failingGroup = new ExampleGroup.Builder()
+            .parent(rootGroup)
+            .beforeAllHook(() -> { throw new Exception(); })
+            .build();
+        ExampleGroup innerGroup = new ExampleGroup.Builder().parent(failingGroup).build();
+        ExampleGroup innermostGroup = new ExampleGroup.Builder().parent(innerGroup).build();
+        ExampleGroup siblingGroup = new ExampleGroup.Builder().parent(rootGroup).build();
+
+        Example example1 = new Example.Builder()
+            .description("example 1")
+            .group(innermostGroup)
+            .block(() -> {})
+            .rank(new Rank(0))
+            .build();
+
+        Example example2 = new Example.Builder()
+            .description("example 2")
+            .group(innerGroup)
+            .block(() -> {})
+            .rank(new Rank(1))
+            .build();
+
+        Example example3 = new Example.Builder()
+            .description("example 3")
+            .group(siblingGroup)
+            .block(() -> {})
+            .rank(new Rank(2))
+            .build();
+
+        assertThat(example1.shouldBeIgnored(), is(false));
+
+        try { example1.tryToExecute(); } catch (Throwable ignored) {}
+
+        assertThat(example1.shouldBeIgnored(), is(true));
+        assertThat(example2.shouldBeIgnored(), is(true));
+        assertThat(example3.shouldBeIgnored(), is(false));
+    }
+
+    @Test(expected = Exceptions.BeforeAllHookFailed.class)
+    public void does_not_run_example_when_before_all_hook_failed_while_running_another_example() throws Throwable {
+        ExampleGroup group = new ExampleGroup.Builder()
+            .beforeAllHook(() -> { throw new Exception(); })
+            .build();
+
+        Example example1 = new Example.Builder()
+            .description("example 1")
+            .group(group)
+            .block(() -> {})
+            .rank(new Rank(0))
+            .build();
+
+        Example example2 = new Example.Builder()
+            .description("example 2")
+            .group(group)
+            .block(() -> { throw new AssertionError("should not run"); })
+            .rank(new Rank(1))
+            .build();
+
+        try { example1.tryToExecute(); } catch (Throwable ignored) {}
+
+        example2.tryToExecute();
+    }
+
+    @Test
+    public void runs_after_all_hooks_of_outer_group_when_before_all_hook_of_inner_group_fails() throws Throwable {
+        UnsafeBlock afterAllHook = mock(UnsafeBlock.class);
+        UnsafeBlock innerAfterAllHook = mock(UnsafeBlock.class);
+
+        ExampleGroup outerGroup = new ExampleGroup.Builder()
+            .afterAllHook(afterAllHook)
+            .build();
+        ExampleGroup group = new ExampleGroup.Builder()
+            .parent(outerGroup)
+            .beforeAllHook(() -> { throw new Exception(); })
+            .afterAllHook(innerAfterAllHook)
+            .build();
+
+        Example example1 = new Example.Builder()
+            .description("example 1")
+            .group(group)
+            .block(() -> {})
+            .rank(new Rank(0))
+            .build();
+
+        new Example.Builder()
+            .description("example 2")
+            .group(group)
+            .block(() -> {})
+            .rank(new Rank(1))
+            .build();
+
+        Example example3 = new Example.Builder()
+            .description("example 3")
+            .group(outerGroup)
+            .block(() -> {})
+            .rank(new Rank(2))
+            .build();
+
+        try { example1.tryToExecute(); } catch (Throwable ignored) {}
+        example3.tryToExecute();
+
+        verify(innerAfterAllHook, never()).tryToExecute();
+        verify(afterAllHook, times(1)).tryToExecute();
+    }
+
+    @Test
+    public void runs_after_all_hooks_of_outer_group_when_before_all_hook_of_group_with_inner_groups_fails()
+        throws Throwable {
+        List<String> executionOrder = new ArrayList<>();
+
+        ExampleGroup outerGroup = new ExampleGroup.Builder()
+            .beforeAllHook(() -> executionOrder.add("outer before all"))
+            .afterAllHook(() -> executionOrder.add("outer after all"))
+            .build();
+        ExampleGroup failingGroup = new ExampleGroup.Builder()
+            .parent(outerGroup)
+            .beforeAllHook(() -> { throw new Exception(); })
+            .build();
+        ExampleGroup innerGroup = new ExampleGroup.Builder()
+            .parent(failingGroup)
+            .build();
+
+        List<Example> examples = asList(
+            new Example.Builder()
+                .description("inner 1")
+                .group(innerGroup)
+                .block(() -> executionOrder.add("inner 1"))
+                .rank(new Rank(0))
+                .build(),
+            new Example.Builder()
+                .description("inner 2")
+                .group(innerGroup)
+                .block(() -> executionOrder.add("inner 2"))
+                .rank(new Rank(1))
+                .build(),
+            new Example.Builder()
+                .description("failing group example")
+                .group(failingGroup)
+                .block(() -> executionOrder.add("failing group example"))
+                .rank(new Rank(2))
+                .build(),
+            new Example.Builder()
+                .description("outer")
+                .group(outerGroup)
+                .block(() -> executionOrder.add("outer"))
+                .rank(new Rank(3))
+                .build()
+        );
+
+        for (Example example : examples) {
+            if (example.shouldBeIgnored()) {
+                executionOrder.add("ignored " + example.description());
+                continue;
+            }
+            try {
+                example.tryToExecute();
+            } catch (Throwable t) {
+                executionOrder.add("failed " + example.description());
+            }
+        }
+
+        assertThat(executionOrder, is(asList(
+            "outer before all",
+            "failed inner 1",
+            "ignored inner 2",
+            "ignored failing group example",
+            "outer",
+            "outer after all"
+        )));
+    }
+
     @Test
     public void indicates_if_example_should_not_be_ignored() {
         Example example = new Example.Builder()
@@ -349,13 +640,14 @@ public class ExampleTest {
         Var<String> stringVar = var();
         Var<Integer> integerVar = var();
 
-        List<VarInitializer<?>> vars = new LinkedList<>();
-        vars.add(new VarInitializer<>(stringVar, () -> "value"));
-        vars.add(new VarInitializer<>(integerVar, () -> 123));
+        ExampleGroup group = new ExampleGroup.Builder()
+            .varInitializer(new VarInitializer<>(stringVar, () -> "value"))
+            .varInitializer(new VarInitializer<>(integerVar, () -> 123))
+            .build();
 
         new Example.Builder()
             .description("example")
-            .varInitializers(vars)
+            .group(group)
             .block(() -> {
                 values.add(var(stringVar));
                 values.add(var(integerVar));
@@ -368,4 +660,213 @@ public class ExampleTest {
             123
         )));
     }
+
+    @Test
+    public void runs_outer_and_inner_set_up_chains_in_order_and_skips_the_rest_after_a_failure() throws Throwable {
+        final List<String> executionOrder = new ArrayList<>();
+        Var<String> outerVar = var();
+
+        ExampleGroup outerGroup = new ExampleGroup.Builder()
+            .varInitializer(new VarInitializer<>(outerVar, () -> {
+                executionOrder.add("outer var");
+                return "value";
+            }))
+            .beforeAllHook(() -> executionOrder.add("outer beforeAll"))
+            .beforeEachHook(() -> executionOrder.add("outer beforeEach"))
+            .build();
+
+        ExampleGroup innerGroup = new ExampleGroup.Builder()
+            .parent(outerGroup)
+            .beforeAllHook(() -> executionOrder.add("inner beforeAll"))
+            .beforeEachHook(() -> {
+                executionOrder.add("inner beforeEach");
+                throw new IllegalStateException();
+            })
+            .beforeEachHook(() -> executionOrder.add("second inner beforeEach"))
+            .build();
+
+        Example example = new Example.Builder()
+            .description("example")
+            .group(innerGroup)
+            .block(() -> executionOrder.add("block"))
+            .rank(new Rank(0))
+            .build();
+
+        try {
+            example.tryToExecute();
+        } catch (IllegalStateException e) {
+            executionOrder.add("failed");
+        }
+
+        assertThat(executionOrder, is(asList(
+            "outer var",
+            "outer beforeAll",
+            "inner beforeAll",
+            "outer beforeEach",
+            "inner beforeEach",
+            "failed"
+        )));
+    }
+
+    @Test
+    public void shares_outer_group_state_with_inner_groups_whose_first_examples_run_concurrently() throws Throwable {
+        List<String> values = Collections.synchronizedList(new ArrayList<>());
+        Var<String> outerVar = var();
+
+        ExampleGroup outerGroup = new ExampleGroup.Builder()
+            .beforeAllHook(() -> var(outerVar, "before all value"))
+            .build();
+
+        List<Example> examples = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            ExampleGroup innerGroup = new ExampleGroup.Builder().parent(outerGroup).build();
+            examples.add(new Example.Builder()
+                .description("example " + i)
+                .group(innerGroup)
+                .block(() -> values.add(var(outerVar)))
+                .rank(new Rank(i))
+                .build());
+        }
+
+        tryToExecuteConcurrently(examples);
+
+        assertThat(values, is(Collections.nCopies(32, "before all value")));
+    }
+
+    private void tryToExecuteConcurrently(List<Example> examples) throws Throwable {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (Example example : examples) {
+                results.add(executor.submit(() -> {
+                    try {
+                        example.tryToExecute();
+                    } catch (Throwable e) {
+                        throw new RuntimeException(e);
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void does_not_allocate_memory_when_example_and_hooks_succeed() throws Throwable {
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        assumeTrue(allocationMXBean.isThreadAllocatedMemorySupported());
+        allocationMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        Var<String> var = var();
+        ExampleGroup outerGroup = new ExampleGroup.Builder()
+            .beforeAllHook(() -> {})
+            .beforeEachHook(() -> {})
+            .afterEachHook(() -> {})
+            .afterAllHook(() -> {})
+            .build();
+        ExampleGroup group = new ExampleGroup.Builder()
+            .parent(outerGroup)
+            .varInitializer(new VarInitializer<>(var, () -> "value"))
+            .beforeEachHook(() -> {})
+            .afterEachHook(() -> {})
+            .build();
+
+        int examplesCount = 200_000;
+        List<Example> examples = new ArrayList<>(examplesCount);
+        for (int i = 0; i < examplesCount; i++) {
+            examples.add(new Example.Builder()
+                .description("example " + i)
+                .group(group)
+                .block(() -> {})
+                .rank(new Rank(i))
+                .build());
+        }
+
+        long threadId = Thread.currentThread().getId();
+        for (Example example : examples.subList(0, examplesCount / 2)) {
+            example.tryToExecute();
+        }
+        long allocatedBytesBefore = allocationMXBean.getThreadAllocatedBytes(threadId);
+        for (Example example : examples.subList(examplesCount / 2, examplesCount)) {
+            example.tryToExecute();
+        }
+        long allocatedBytes = allocationMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+
+        assertThat("allocated " + allocatedBytes + " bytes", allocatedBytes < examplesCount / 2, is(true));
+    }
+
+    @Test
+    public void fails_when_block_allocates_more_than_its_budget() throws Throwable {
+        assumeTrue(ThreadAllocation.supported());
+
+        Example example = new Example.Builder()
+            .description("example")
+            .block(() -> allocated = new byte[64 * 1024])
+            .maxAllocatedBytes(1024)
+            .build();
+
+        try {
+            example.tryToExecute();
+            fail("expected allocation budget to be exceeded");
+        } catch (Exceptions.AllocationBudgetExceeded e) {
+            assertThat(e.getMessage().startsWith("Example allocated "), is(true));
+        }
+    }
+
+    @Test
+    public void does_not_count_hook_allocations_in_the_budget() throws Throwable {
+        assumeTrue(ThreadAllocation.supported());
+
+        ExampleGroup group = new ExampleGroup.Builder()
+            .beforeEachHook(() -> allocated = new byte[64 * 1024])
+            .afterEachHook(() -> allocated = new byte[64 * 1024])
+            .build();
+        Example example = new Example.Builder()
+            .description("example")
+            .group(group)
+            .block(NOOP)
+            .maxAllocatedBytes(0)
+            .build();
+
+        example.tryToExecute();
+    }
+
+    @Test
+    public void reports_bytes_allocated_by_block() throws Throwable {
+        assumeTrue(ThreadAllocation.supported());
+
+        List<Long> allocatedBytes = new ArrayList<>();
+        ExampleListener listener = new ExampleListener() {
+            @Override
+            public void onEvent(ExampleEvent event) {
+                if (event.type() == ExampleEvent.Type.EXAMPLE_FINISHED) {
+                    allocatedBytes.add(event.allocatedBytes());
+                }
+            }
+
+            @Override
+            public boolean synchronous() {
+                return true;
+            }
+        };
+        Example example = new Example.Builder()
+            .description("example")
+            .block(() -> allocated = new byte[64 * 1024])
+            .build();
+
+        ExampleListeners.register(listener);
+        try {
+            example.tryToExecute();
+        } finally {
+            ExampleListeners.unregister(listener);
+        }
+
+        assertThat(allocatedBytes.size(), is(1));
+        assertThat("allocated " + allocatedBytes.get(0) + " bytes", allocatedBytes.get(0) >= 64 * 1024, is(true));
+    }
 }
@@ -0,0 +1,61 @@
+package j8spec;
+
+import j8spec.annotation.DefinedOrder;
+import org.junit.Test;
+
+import static j8spec.J8Spec.*;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ExampleTimingsTest {
+
+    @DefinedOrder
+    static class TimedSpec {{
+        Var<String> v = var();
+
+        beforeAll(() -> Thread.sleep(40));
+        let(v, () -> "value");
+        beforeEach(UnsafeBlock.NOOP);
+
+        it("fast block", UnsafeBlock.NOOP);
+
+        describe("describe A", () -> {
+            it("slow block", () -> Thread.sleep(50));
+        });
+    }}
+
+    @Test
+    public void reports_slowest_examples_and_groups_with_amortized_before_all_hooks() throws Throwable {
+        ExampleTimings timings = new ExampleTimings();
+        ExampleListeners.register(timings);
+        try {
+            for (Example example : read(TimedSpec.class)) {
+                example.tryToExecute();
+            }
+        } finally {
+            ExampleListeners.unregister(timings);
+        }
+
+        String summary = timings.summary(1);
+        String[] lines = summary.split(System.lineSeparator());
+
+        assertThat(lines[0], is("j8spec timings: 2 examples"));
+        assertThat(summary, containsString("before all (amortized)"));
+        assertThat(lines[9], is("slowest examples:"));
+        assertThat(lines[10], containsString("j8spec.ExampleTimingsTest$TimedSpec / describe A / slow block"));
+        assertThat(lines[11], is("slowest example groups:"));
+        assertThat(lines[12], containsString("j8spec.ExampleTimingsTest$TimedSpec"));
+        assertThat(lines.length, is(13));
+    }
+
+    @Test
+    public void computes_nearest_rank_percentiles() {
+        long[] values = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+        assertThat(ExampleTimings.percentile(values, 50), is(5L));
+        assertThat(ExampleTimings.percentile(values, 90), is(9L));
+        assertThat(ExampleTimings.percentile(values, 99), is(10L));
+        assertThat(ExampleTimings.percentile(new long[0], 99), is(0L));
+    }
+}
@@ -77,9 +77,6 @@ public class J8SpecFlowRandomOrderTest {
         assertThat(log, is(asList(
             "before all 1",
 
-            "before each 1",
-            "block 3",
-
             "before each 1",
             "block 4",
 
@@ -90,7 +87,10 @@ public class J8SpecFlowRandomOrderTest {
             "block 1",
 
             "before each 1",
-            "block 2"
+            "block 2",
+
+            "before each 1",
+            "block 3"
         )));
     }
 
@@ -99,9 +99,9 @@ public class J8SpecFlowRandomOrderTest {
         executeSpec(SubSpec.class);
 
         assertThat(log, is(asList(
-            "block 3",
             "block 1",
-            "block 2"
+            "block 2",
+            "block 3"
         )));
     }
 }
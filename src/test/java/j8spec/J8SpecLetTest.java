@@ -1,5 +1,6 @@
 package j8spec;
 
+import j8spec.annotation.DefinedOrder;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -7,6 +8,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static j8spec.J8Spec.*;
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.assertThat;
@@ -30,7 +32,79 @@ public class J8SpecLetTest {
         let(v1, () -> "value 2");
     }}
 
+    @DefinedOrder
+    static class LazySpec {{
+        Var<String> v1 = var();
+        lazyVar = v1;
+
+        let(v1, c -> c.lazy(), () -> {
+            log.add("init");
+            return "value";
+        });
+
+        it("does not read v1", () -> log.add("example 1"));
+
+        it("reads v1 twice", () -> {
+            log.add(String.format("var is '%s'", var(v1)));
+            log.add(String.format("var is '%s'", var(v1)));
+        });
+
+        it("reads v1 again", () -> log.add(String.format("var is '%s'", var(v1))));
+    }}
+
+    static class LazyPerGroupSpec {{
+        Var<String> v1 = var();
+
+        let(v1, c -> c.lazyPerGroup(), () -> {
+            log.add("init");
+            return "value";
+        });
+
+        it("reads v1", () -> log.add(String.format("var is '%s'", var(v1))));
+
+        it("reads v1 again", () -> log.add(String.format("var is '%s'", var(v1))));
+    }}
+
+    static class LazyOverwrittenSpec {{
+        Var<String> v1 = var();
+
+        let(v1, c -> c.lazy(), () -> "value");
+
+        it("overwrites v1", () -> {
+            var(v1, "new value");
+            log.add(String.format("var is '%s'", var(v1)));
+        });
+    }}
+
+    static class FailingLazyInitializationSpec {{
+        Var<String> v1 = var();
+
+        let(v1, c -> c.lazy(), () -> { throw new Exception("init failed"); });
+
+        it("reads v1", () -> var(v1));
+    }}
+
+    static class FailingLazyInitializationReadAgainSpec {{
+        Var<String> v1 = var();
+
+        let(v1, c -> c.lazy(), () -> {
+            log.add("init");
+            throw new IllegalStateException("init failed");
+        });
+
+        afterEach(() -> {
+            try {
+                log.add(String.format("var is '%s'", var(v1)));
+            } catch (IllegalStateException e) {
+                log.add("init failed again");
+            }
+        });
+
+        it("reads v1", () -> var(v1));
+    }}
+
     private static List<String> log;
+    private static Var<String> lazyVar;
 
     @Before
     public void resetLog() throws Throwable {
@@ -44,6 +118,61 @@ public class J8SpecLetTest {
         assertThat(log, is(singletonList("var is 'value'")));
     }
 
+    @Test
+    public void initializes_lazy_variable_once_per_example_only_when_it_is_read() throws Throwable {
+        executeSpec(LazySpec.class);
+
+        assertThat(log, is(asList(
+            "example 1",
+            "init",
+            "var is 'value'",
+            "var is 'value'",
+            "init",
+            "var is 'value'"
+        )));
+    }
+
+    @Test
+    public void releases_lazy_variable_value_when_example_finishes() throws Throwable {
+        executeSpec(LazySpec.class);
+
+        assertThat(var(lazyVar), is(nullValue()));
+    }
+
+    @Test
+    public void initializes_lazy_variable_once_per_group_when_configured() throws Throwable {
+        executeSpec(LazyPerGroupSpec.class);
+
+        assertThat(log, is(asList(
+            "init",
+            "var is 'value'",
+            "var is 'value'"
+        )));
+    }
+
+    @Test
+    public void allows_lazy_variable_to_be_overwritten() throws Throwable {
+        executeSpec(LazyOverwrittenSpec.class);
+
+        assertThat(log, is(singletonList("var is 'new value'")));
+    }
+
+    @Test(expected = Exceptions.VariableInitializationFailed.class)
+    public void reports_checked_exceptions_thrown_by_lazy_initialization() throws Throwable {
+        executeSpec(FailingLazyInitializationSpec.class);
+    }
+
+    @Test
+    public void fails_again_when_lazy_variable_that_failed_to_initialize_is_read_again() throws Throwable {
+        try {
+            executeSpec(FailingLazyInitializationReadAgainSpec.class);
+        } catch (IllegalStateException e) {
+            log.add(e.getMessage());
+        }
+
+        assertThat(log, is(asList("init", "init", "init failed again", "init failed")));
+    }
+
     @Test(expected = Exceptions.IllegalContext.class)
     public void does_not_allow_let_method_direct_invocation() {
         Var<String> var = var();
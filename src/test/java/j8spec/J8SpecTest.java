@@ -1,16 +1,26 @@
 package j8spec;
 
 import j8spec.annotation.DefinedOrder;
+import j8spec.annotation.RandomOrder;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static j8spec.J8Spec.*;
 import static j8spec.UnsafeBlock.NOOP;
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 public class J8SpecTest {
 
@@ -52,6 +62,18 @@ public class J8SpecTest {
         });
     }}
 
+    static class WaitsForAnotherSpecSpec {{
+        describe("waits for another spec to be read at the same time", () -> {
+            try {
+                readBarrier.await(5, SECONDS);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+
+            it("block", UnsafeBlock.NOOP);
+        });
+    }}
+
     static class ExpectedExceptionSpec {{
         it("block 1", c -> c.expected(Exception.class), UnsafeBlock.NOOP);
     }}
@@ -76,6 +98,99 @@ public class J8SpecTest {
         });
     }}
 
+    @DefinedOrder
+    static class ExampleOverwrittenInLastGroupSpec {{
+        it("block 1", UnsafeBlock.NOOP);
+
+        describe("describe A", () -> {
+            it("block A.1", UnsafeBlock.NOOP);
+            it("block A.1", UnsafeBlock.NOOP);
+        });
+    }}
+
+    @DefinedOrder
+    static class HooksSpec {{
+        beforeAll(() -> hooksLog.add("before all"));
+        afterAll(() -> hooksLog.add("after all"));
+
+        it("block 1", () -> hooksLog.add("block 1"));
+        xit("block 2", () -> hooksLog.add("block 2"));
+
+        describe("describe A", () -> {
+            beforeAll(() -> hooksLog.add("describe A before all"));
+            afterAll(() -> hooksLog.add("describe A after all"));
+
+            it("block A.1", () -> hooksLog.add("block A.1"));
+            it("block A.2", () -> hooksLog.add("block A.2"));
+        });
+
+        it("block 3", () -> hooksLog.add("block 3"));
+    }}
+
+    @RandomOrder(seed = 0)
+    static class RandomOrderSpec {{
+        it("block 1", UnsafeBlock.NOOP);
+        it("block 2", UnsafeBlock.NOOP);
+
+        describe("describe A", () -> {
+            it("block A.1", UnsafeBlock.NOOP);
+            it("block A.2", UnsafeBlock.NOOP);
+        });
+
+        it("block 3", UnsafeBlock.NOOP);
+    }}
+
+    @RandomOrder(seed = 0)
+    static class RandomOrderGroupsSpec {{
+        for (String group : asList("A", "B", "C")) {
+            describe("describe " + group, () -> {
+                for (int i = 1; i <= 3; i++) {
+                    it("block " + group + "." + i, UnsafeBlock.NOOP);
+                }
+                describe("describe " + group + group, () -> {
+                    for (int i = 1; i <= 3; i++) {
+                        it("block " + group + group + "." + i, UnsafeBlock.NOOP);
+                    }
+                });
+            });
+        }
+    }}
+
+    @DefinedOrder
+    static class SelectedGroupSpec {{
+        describe("describe A", () -> {
+            definedGroups.add("describe A");
+            it("block A.1", UnsafeBlock.NOOP);
+        });
+
+        describe("describe B", () -> {
+            definedGroups.add("describe B");
+            it("block B.1", UnsafeBlock.NOOP);
+        });
+    }}
+
+    @DefinedOrder
+    static class TaggedSpec {{
+        it("block 1", c -> c.tags("smoke"), UnsafeBlock.NOOP);
+
+        describe("describe A", c -> c.tags("db"), () -> {
+            definedGroups.add("describe A");
+            it("block A.1", UnsafeBlock.NOOP);
+            it("block A.2", c -> c.tags("slow"), UnsafeBlock.NOOP);
+        });
+
+        context("context B", c -> c.tags("slow"), () -> {
+            definedGroups.add("context B");
+            it("block B.1", c -> c.tags("smoke"), UnsafeBlock.NOOP);
+        });
+    }}
+
+    private static List<String> definedGroups;
+
+    private static CyclicBarrier readBarrier;
+
+    private static List<String> hooksLog = new ArrayList<>();
+
     @Test
     public void reads_an_empty_spec() {
         assertThat(read(EmptySpec.class), is(emptyList()));
@@ -199,4 +314,191 @@ public class J8SpecTest {
         assertThat(var(sleepExamples).size(), is(1));
         assertThat(var(sleepExamples).get(0).description(), is("block"));
     }
+
+    @Test
+    public void reads_specs_concurrently_without_blocking_each_other() throws Exception {
+        readBarrier = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<Example>> examples1 = executor.submit(() -> read(WaitsForAnotherSpecSpec.class));
+            Future<List<Example>> examples2 = executor.submit(() -> read(WaitsForAnotherSpecSpec.class));
+
+            assertThat(examples1.get().size(), is(1));
+            assertThat(examples2.get().size(), is(1));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void finds_duplicated_examples_before_they_are_iterated() {
+        try {
+            iterate(ExampleOverwrittenInLastGroupSpec.class);
+            fail("duplicated example should have been found");
+        } catch (Exceptions.BlockAlreadyDefined e) {
+            assertThat(e.getMessage(), is("'block A.1' block already defined."));
+        }
+    }
+
+    @Test
+    public void runs_after_all_hooks_once_when_examples_run_while_they_are_iterated() throws Throwable {
+        hooksLog.clear();
+
+        Iterator<Example> examples = iterate(HooksSpec.class);
+        while (examples.hasNext()) {
+            Example example = examples.next();
+            if (!example.shouldBeIgnored()) {
+                example.tryToExecute();
+            }
+        }
+
+        assertThat(hooksLog, is(asList(
+            "before all",
+            "block 1",
+            "describe A before all",
+            "block A.1",
+            "block A.2",
+            "describe A after all",
+            "block 3",
+            "after all"
+        )));
+    }
+
+    @Test
+    public void iterates_examples_in_the_same_order_they_are_read() {
+        List<String> readDescriptions = new ArrayList<>();
+        for (Example example : read(RandomOrderSpec.class)) {
+            readDescriptions.add(example.description());
+        }
+
+        List<String> iteratedDescriptions = new ArrayList<>();
+        iterate(RandomOrderSpec.class).forEachRemaining(example -> iteratedDescriptions.add(example.description()));
+
+        assertThat(iteratedDescriptions, is(readDescriptions));
+        assertThat(iteratedDescriptions.size(), is(5));
+    }
+
+    @Test
+    public void builds_only_selected_examples_keeping_their_order() {
+        List<String> allDescriptions = new ArrayList<>();
+        for (Example example : read(RandomOrderSpec.class)) {
+            if (!example.description().equals("block 2")) {
+                allDescriptions.add(example.description());
+            }
+        }
+
+        List<String> selectedDescriptions = new ArrayList<>();
+        for (Example example : read(RandomOrderSpec.class, (containers, description) -> !description.equals("block 2"))) {
+            selectedDescriptions.add(example.description());
+        }
+
+        assertThat(selectedDescriptions, is(allDescriptions));
+    }
+
+    @Test
+    public void does_not_define_example_groups_excluded_by_system_properties() {
+        definedGroups = new ArrayList<>();
+        System.setProperty("j8spec.exclude", "describe A");
+        List<Example> examples;
+        try {
+            examples = read(SelectedGroupSpec.class);
+        } finally {
+            System.clearProperty("j8spec.exclude");
+        }
+
+        assertThat(definedGroups, is(Collections.singletonList("describe B")));
+        assertThat(examples.size(), is(1));
+        assertThat(examples.get(0).description(), is("block B.1"));
+    }
+
+    @Test
+    public void keeps_random_order_of_selected_examples_when_example_groups_are_not_defined() {
+        List<String> allDescriptions = new ArrayList<>();
+        for (Example example : read(RandomOrderGroupsSpec.class)) {
+            if (!example.containerDescriptions().contains("describe B")) {
+                allDescriptions.add(example.description());
+            }
+        }
+
+        List<String> selectedDescriptions = new ArrayList<>();
+        ExampleSelector selector = new PathSelector.Builder().exclude("describe B").build();
+        for (Example example : read(RandomOrderGroupsSpec.class, selector)) {
+            selectedDescriptions.add(example.description());
+        }
+
+        assertThat(selectedDescriptions, is(allDescriptions));
+    }
+
+    @Test
+    public void does_not_define_example_groups_without_selected_examples() {
+        definedGroups = new ArrayList<>();
+
+        List<Example> examples = read(
+            SelectedGroupSpec.class,
+            new PathSelector.Builder().include("describe B/block B.1").build()
+        );
+
+        assertThat(definedGroups, is(Collections.singletonList("describe B")));
+        assertThat(examples.size(), is(1));
+        assertThat(examples.get(0).description(), is("block B.1"));
+    }
+
+    @Test
+    public void inherits_tags_of_example_groups() {
+        definedGroups = new ArrayList<>();
+        List<Example> examples = read(TaggedSpec.class);
+
+        assertThat(examples.get(0).tags(), is(Tags.of("smoke")));
+        assertThat(examples.get(1).tags(), is(Tags.of("db")));
+        assertThat(examples.get(2).tags(), is(Tags.of("db", "slow")));
+        assertThat(examples.get(3).tags(), is(Tags.of("slow", "smoke")));
+    }
+
+    @Test
+    public void builds_only_examples_with_included_tags() {
+        definedGroups = new ArrayList<>();
+        List<Example> examples = read(TaggedSpec.class, new TagSelector.Builder().include("smoke").build());
+
+        assertThat(examples.size(), is(2));
+        assertThat(examples.get(0).description(), is("block 1"));
+        assertThat(examples.get(1).description(), is("block B.1"));
+    }
+
+    @Test
+    public void does_not_add_selected_tags_to_the_tags_of_the_spec() {
+        definedGroups = new ArrayList<>();
+        List<Example> examples = read(TaggedSpec.class, new TagSelector.Builder().include("smoke", "unknown").build());
+
+        assertThat(examples.size(), is(2));
+        assertThat(examples.get(0).tags().contains("unknown"), is(false));
+        assertThat(examples.get(0).tags().registry().idOf("unknown"), is(-1));
+    }
+
+    @Test
+    public void keeps_tags_of_each_spec_read_apart() {
+        definedGroups = new ArrayList<>();
+        List<Example> examples1 = read(TaggedSpec.class);
+        List<Example> examples2 = read(TaggedSpec.class);
+
+        assertThat(examples1.get(0).tags().registry() == examples2.get(0).tags().registry(), is(false));
+        assertThat(examples1.get(0).tags(), is(examples2.get(0).tags()));
+        assertThat(examples1.get(0).tags().intersects(examples2.get(0).tags()), is(true));
+    }
+
+    @Test
+    public void does_not_define_example_groups_with_tags_excluded_by_system_properties() {
+        definedGroups = new ArrayList<>();
+        System.setProperty("j8spec.tags.exclude", "slow");
+        List<Example> examples;
+        try {
+            examples = read(TaggedSpec.class);
+        } finally {
+            System.clearProperty("j8spec.tags.exclude");
+        }
+
+        assertThat(definedGroups, is(Collections.singletonList("describe A")));
+        assertThat(examples.size(), is(2));
+        assertThat(examples.get(0).description(), is("block 1"));
+        assertThat(examples.get(1).description(), is("block A.1"));
+    }
 }
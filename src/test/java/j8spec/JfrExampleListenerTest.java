@@ -0,0 +1,143 @@
+package j8spec;
+
+import j8spec.annotation.DefinedOrder;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static j8spec.J8Spec.*;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+public class JfrExampleListenerTest {
+
+    @DefinedOrder
+    static class RecordedSpec {{
+        beforeEach(UnsafeBlock.NOOP);
+
+        it("block 1", UnsafeBlock.NOOP);
+
+        describe("describe A", () -> {
+            it("block A.1", () -> { throw new IllegalStateException(); });
+        });
+    }}
+
+    private static final String[] EVENT_NAMES = {
+        "j8spec.SpecDefinition", "j8spec.ExampleGroup", "j8spec.Hook", "j8spec.Example"
+    };
+
+    private static List<String> record(JfrExampleListener listener, boolean enabled) throws Exception {
+        Class<?> recordingClass = Class.forName("jdk.jfr.Recording");
+        Object recording = recordingClass.getConstructor().newInstance();
+        for (String eventName : EVENT_NAMES) {
+            recordingClass.getMethod(enabled ? "enable" : "disable", String.class).invoke(recording, eventName);
+        }
+
+        ExampleListeners.register(listener);
+        recordingClass.getMethod("start").invoke(recording);
+        try {
+            for (Example example : read(RecordedSpec.class)) {
+                try {
+                    example.tryToExecute();
+                } catch (Throwable ignored) {
+                }
+            }
+        } finally {
+            recordingClass.getMethod("stop").invoke(recording);
+            ExampleListeners.unregister(listener);
+        }
+
+        Path file = Files.createTempFile("j8spec", ".jfr");
+        try {
+            recordingClass.getMethod("dump", Path.class).invoke(recording, file);
+            recordingClass.getMethod("close").invoke(recording);
+            return readEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static List<String> readEvents(Path file) throws Exception {
+        Class<?> recordedEventClass = Class.forName("jdk.jfr.consumer.RecordedEvent");
+        Method getEventType = recordedEventClass.getMethod("getEventType");
+        Method hasField = recordedEventClass.getMethod("hasField", String.class);
+        Method getString = recordedEventClass.getMethod("getString", String.class);
+        Method getName = Class.forName("jdk.jfr.EventType").getMethod("getName");
+
+        List<?> recordedEvents = (List<?>) Class.forName("jdk.jfr.consumer.RecordingFile")
+            .getMethod("readAllEvents", Path.class)
+            .invoke(null, file);
+
+        List<String> events = new ArrayList<>();
+        for (Object recordedEvent : recordedEvents) {
+            String name = (String) getName.invoke(getEventType.invoke(recordedEvent));
+            if (!name.startsWith("j8spec.")) {
+                continue;
+            }
+            StringBuilder event = new StringBuilder(name);
+            for (String field : asList("spec", "path", "hook", "outcome")) {
+                if ((Boolean) hasField.invoke(recordedEvent, field)) {
+                    event.append(" ").append(getString.invoke(recordedEvent, field));
+                }
+            }
+            events.add(event.toString());
+        }
+        events.sort(null);
+        return events;
+    }
+
+    @Test
+    public void emits_events_with_description_path_and_outcome() throws Exception {
+        JfrExampleListener listener = JfrExampleListener.create();
+        assumeTrue(listener != null);
+
+        String spec = "j8spec.JfrExampleListenerTest$RecordedSpec";
+        assertThat(record(listener, true), is(asList(
+            "j8spec.Example " + spec + " / block 1 passed",
+            "j8spec.Example " + spec + " / describe A / block A.1 failed",
+            "j8spec.ExampleGroup " + spec,
+            "j8spec.ExampleGroup " + spec + " / describe A",
+            "j8spec.Hook " + spec + " BEFORE_EACH passed",
+            "j8spec.Hook " + spec + " BEFORE_EACH passed",
+            "j8spec.SpecDefinition " + spec + " passed"
+        )));
+    }
+
+    @Test
+    public void registers_itself_only_while_its_events_are_recorded() throws Exception {
+        JfrExampleListener listener = JfrExampleListener.create();
+        assumeTrue(listener != null);
+
+        Class<?> recordingClass = Class.forName("jdk.jfr.Recording");
+        Object recording = recordingClass.getConstructor().newInstance();
+        recordingClass.getMethod("enable", String.class).invoke(recording, "j8spec.Example");
+
+        listener.registerWhileRecording();
+        try {
+            assertThat(ExampleListeners.active(), is(false));
+
+            recordingClass.getMethod("start").invoke(recording);
+            assertThat(ExampleListeners.active(), is(true));
+
+            recordingClass.getMethod("stop").invoke(recording);
+            assertThat(ExampleListeners.active(), is(false));
+        } finally {
+            listener.unregister();
+            recordingClass.getMethod("close").invoke(recording);
+        }
+    }
+
+    @Test
+    public void emits_no_events_when_they_are_disabled() throws Exception {
+        JfrExampleListener listener = JfrExampleListener.create();
+        assumeTrue(listener != null);
+
+        assertThat(record(listener, false).isEmpty(), is(true));
+    }
+}
@@ -0,0 +1,86 @@
+package j8spec;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class PathSelectorTest {
+
+    private static final String SPEC = "j8spec.SomeSpec";
+
+    private static List<String> path(String... descriptions) {
+        return asList(descriptions);
+    }
+
+    @Test
+    public void selects_all_examples_when_there_are_no_paths() {
+        PathSelector selector = new PathSelector.Builder().build();
+
+        assertThat(selector.selects(path(SPEC, "describe A"), "example 1"), is(true));
+        assertThat(selector.mayContainSelectedExamples(path(SPEC, "describe A")), is(true));
+    }
+
+    @Test
+    public void selects_examples_inside_included_paths() {
+        PathSelector selector = new PathSelector.Builder()
+            .include("describe A")
+            .include("describe B/example 1")
+            .build();
+
+        assertThat(selector.selects(path(SPEC, "describe A", "describe AA"), "example 1"), is(true));
+        assertThat(selector.selects(path(SPEC, "describe B"), "example 1"), is(true));
+        assertThat(selector.selects(path(SPEC, "describe B"), "example 2"), is(false));
+        assertThat(selector.selects(path(SPEC), "example 1"), is(false));
+    }
+
+    @Test
+    public void does_not_select_examples_inside_excluded_paths() {
+        PathSelector selector = new PathSelector.Builder()
+            .include("describe A")
+            .exclude("describe A/describe AA")
+            .build();
+
+        assertThat(selector.selects(path(SPEC, "describe A"), "example 1"), is(true));
+        assertThat(selector.selects(path(SPEC, "describe A", "describe AA"), "example 1"), is(false));
+    }
+
+    @Test
+    public void indicates_if_example_group_may_contain_selected_examples() {
+        PathSelector selector = new PathSelector.Builder()
+            .include("describe A/describe AA/example 1")
+            .exclude("describe A/describe AB")
+            .build();
+
+        assertThat(selector.mayContainSelectedExamples(path(SPEC, "describe A")), is(true));
+        assertThat(selector.mayContainSelectedExamples(path(SPEC, "describe A", "describe AA")), is(true));
+        assertThat(selector.mayContainSelectedExamples(path(SPEC, "describe A", "describe AB")), is(false));
+        assertThat(selector.mayContainSelectedExamples(path(SPEC, "describe B")), is(false));
+    }
+
+    @Test
+    public void builds_selector_from_system_properties() {
+        System.setProperty("j8spec.include", "describe A, describe B");
+        System.setProperty("j8spec.exclude", "describe A/example 2");
+        ExampleSelector selector;
+        try {
+            selector = PathSelector.fromSystemProperties();
+        } finally {
+            System.clearProperty("j8spec.include");
+            System.clearProperty("j8spec.exclude");
+        }
+
+        assertThat(selector.selects(path(SPEC, "describe A"), "example 1"), is(true));
+        assertThat(selector.selects(path(SPEC, "describe A"), "example 2"), is(false));
+        assertThat(selector.selects(path(SPEC, "describe B"), "example 1"), is(true));
+        assertThat(selector.selects(path(SPEC, "describe C"), "example 1"), is(false));
+    }
+
+    @Test
+    public void selects_all_examples_when_system_properties_are_not_set() {
+        assertThat(PathSelector.fromSystemProperties(), is(ExampleSelector.ALL));
+    }
+}
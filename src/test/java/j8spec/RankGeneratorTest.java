@@ -65,7 +65,7 @@ public class RankGeneratorTest {
         generator.pushLevel(groupConfig().randomOrder().seed(0L).build());
         generator.pushLevel(groupConfig().build());
 
-        assertThat(generator.generate(), is(new Rank(-1155484576, -723955400)));
+        assertThat(generator.generate(), is(new Rank(-1155484576, 361276124)));
     }
 
     @Test
@@ -74,7 +74,7 @@ public class RankGeneratorTest {
         generator.pushLevel(groupConfig().build());
         generator.popLevel();
 
-        assertThat(generator.generate(), is(new Rank(1033096058)));
+        assertThat(generator.generate(), is(new Rank(-1690734402)));
     }
 
     @Test(expected = IllegalStateException.class)
@@ -84,4 +84,23 @@ public class RankTest {
             new Rank(0, 0, 0)
         )));
     }
+
+    @Test
+    public void is_sortable_by_value_when_values_are_far_apart() {
+        List<Rank> rankList = new LinkedList<>();
+
+        rankList.add(new Rank(Integer.MAX_VALUE));
+        rankList.add(new Rank(-1));
+        rankList.add(new Rank(Integer.MIN_VALUE));
+        rankList.add(new Rank(1));
+
+        Collections.sort(rankList);
+
+        assertThat(rankList, is(asList(
+            new Rank(Integer.MIN_VALUE),
+            new Rank(-1),
+            new Rank(1),
+            new Rank(Integer.MAX_VALUE)
+        )));
+    }
 }
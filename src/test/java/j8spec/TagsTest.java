@@ -0,0 +1,64 @@
+package j8spec;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class TagsTest {
+
+    @Test
+    public void contains_given_tags() {
+        Tags tags = Tags.of("slow", "db");
+
+        assertThat(tags.contains("slow"), is(true));
+        assertThat(tags.contains("db"), is(true));
+        assertThat(tags.contains("smoke"), is(false));
+        assertThat(new ArrayList<>(tags.names()), is(asList("slow", "db")));
+    }
+
+    @Test
+    public void combines_tags() {
+        Tags tags = Tags.of("slow").union(Tags.of("db"));
+
+        assertThat(tags, is(Tags.of("db", "slow")));
+        assertThat(tags.intersects(Tags.of("db", "smoke")), is(true));
+        assertThat(tags.intersects(Tags.of("smoke")), is(false));
+    }
+
+    @Test
+    public void reuses_tags_when_union_adds_nothing() {
+        Tags tags = Tags.of("slow", "db");
+
+        assertThat(tags.union(Tags.of("db")) == tags, is(true));
+        assertThat(Tags.NONE.union(tags) == tags, is(true));
+    }
+
+    @Test
+    public void supports_more_tags_than_bits_in_a_word() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            names.add("tag " + i);
+        }
+        Tags tags = Tags.of(names.toArray(new String[0]));
+
+        assertThat(tags.names().size(), is(100));
+        assertThat(tags.contains("tag 99"), is(true));
+        assertThat(Tags.of("tag 99").intersects(tags), is(true));
+        assertThat(Tags.of("tag 99").intersects(Tags.of("tag 1")), is(false));
+    }
+
+    @Test
+    public void looks_up_tags_without_adding_them() {
+        Tags tags = Tags.of("slow");
+
+        assertThat(tags.contains("smoke"), is(false));
+        assertThat(tags.registry().idOf("smoke"), is(-1));
+        assertThat(Tags.lookUp(tags.registry(), "slow", "smoke"), is(tags));
+        assertThat(tags.registry().idOf("smoke"), is(-1));
+    }
+}
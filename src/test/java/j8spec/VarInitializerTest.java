@@ -3,6 +3,11 @@ package j8spec;
 import org.junit.Test;
 
 import static j8spec.J8Spec.*;
+import static j8spec.VarInitializationMode.LAZY_PER_EXAMPLE;
+import static j8spec.VarInitializationMode.LAZY_PER_GROUP;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.*;
 
 public class VarInitializerTest {
@@ -20,4 +25,99 @@ public class VarInitializerTest {
 
         verify(initFunction, times(1)).tryToGet();
     }
-}
\ No newline at end of file
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void does_not_execute_init_function_of_lazy_initializer_until_variable_is_read() throws Throwable {
+        UnsafeFunction<String> initFunction = mock(UnsafeFunction.class);
+        when(initFunction.tryToGet()).thenReturn("value");
+
+        Var<String> var = var();
+        VarInitializer<String> varInit = new VarInitializer<>(var, initFunction, LAZY_PER_EXAMPLE);
+
+        varInit.tryToExecute();
+        verify(initFunction, never()).tryToGet();
+
+        assertThat(var(var), is("value"));
+        assertThat(var(var), is("value"));
+        verify(initFunction, times(1)).tryToGet();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void executes_init_function_of_lazy_initializer_again_for_each_example() throws Throwable {
+        UnsafeFunction<String> initFunction = mock(UnsafeFunction.class);
+        when(initFunction.tryToGet()).thenReturn("value");
+
+        Var<String> var = var();
+        VarInitializer<String> varInit = new VarInitializer<>(var, initFunction, LAZY_PER_EXAMPLE);
+
+        varInit.tryToExecute();
+        var(var);
+        varInit.exampleFinished();
+
+        assertThat(var(var), is(nullValue()));
+
+        varInit.tryToExecute();
+        var(var);
+
+        verify(initFunction, times(2)).tryToGet();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void executes_init_function_of_lazy_per_group_initializer_again_only_after_group_finishes() throws Throwable {
+        UnsafeFunction<String> initFunction = mock(UnsafeFunction.class);
+        when(initFunction.tryToGet()).thenReturn("value");
+
+        Var<String> var = var();
+        VarInitializer<String> varInit = new VarInitializer<>(var, initFunction, LAZY_PER_GROUP);
+
+        varInit.tryToExecute();
+        var(var);
+        varInit.exampleFinished();
+
+        varInit.tryToExecute();
+        var(var);
+        varInit.exampleFinished();
+        varInit.groupFinished();
+
+        verify(initFunction, times(1)).tryToGet();
+
+        varInit.tryToExecute();
+        var(var);
+
+        verify(initFunction, times(2)).tryToGet();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void executes_init_function_only_once_when_it_returns_null() throws Throwable {
+        UnsafeFunction<String> initFunction = mock(UnsafeFunction.class);
+
+        VarInitializer<String> varInit = new VarInitializer<>(var(), initFunction);
+
+        varInit.tryToExecute();
+        varInit.tryToExecute();
+
+        verify(initFunction, times(1)).tryToGet();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void executes_init_function_of_lazy_per_group_initializer_only_once_when_it_returns_null() throws Throwable {
+        UnsafeFunction<String> initFunction = mock(UnsafeFunction.class);
+
+        Var<String> var = var();
+        VarInitializer<String> varInit = new VarInitializer<>(var, initFunction, LAZY_PER_GROUP);
+
+        varInit.tryToExecute();
+        assertThat(var(var), is(nullValue()));
+        varInit.exampleFinished();
+
+        varInit.tryToExecute();
+        assertThat(var(var), is(nullValue()));
+
+        verify(initFunction, times(1)).tryToGet();
+    }
+}
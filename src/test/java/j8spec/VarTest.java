@@ -1,13 +1,115 @@
 package j8spec;
 
+import j8spec.annotation.DefinedOrder;
+import j8spec.annotation.IsolatedVars;
+import org.junit.Before;
 import org.junit.Test;
 
-import static j8spec.J8Spec.var;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static j8spec.J8Spec.*;
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
 public class VarTest {
 
+    @DefinedOrder
+    static class SharedVarSpec {{
+        Var<String> v1 = var();
+        Var<Integer> count = var();
+
+        let(v1, () -> "let value");
+
+        beforeAll(() -> {
+            log.add("before all sees " + var(v1));
+            var(count, 0);
+        });
+
+        it("example 1", () -> {
+            log.add("example 1 sees " + var(v1));
+            var(count, var(count) + 1);
+        });
+
+        it("example 2", () -> var(count, var(count) + 1));
+
+        afterAll(() -> log.add("after all sees count " + var(count)));
+    }}
+
+    @DefinedOrder
+    @IsolatedVars
+    static class IsolatedLetSpec {{
+        Var<String> v1 = var();
+        Var<Integer> count = var();
+
+        let(v1, () -> "let value");
+
+        beforeAll(() -> {
+            log.add("before all sees " + var(v1));
+            var(count, 0);
+        });
+
+        it("example 1", () -> {
+            log.add("example 1 sees " + var(v1));
+            var(count, var(count) + 1);
+        });
+
+        it("example 2", () -> var(count, var(count) + 1));
+
+        afterAll(() -> log.add("after all sees count " + var(count)));
+    }}
+
+    @DefinedOrder
+    @IsolatedVars
+    static class ScopedVarSpec {{
+        Var<String> v1 = var();
+
+        beforeAll(() -> var(v1, "before all value"));
+
+        it("overwrites v1", () -> {
+            log.add(var(v1));
+            var(v1, "example value");
+            log.add(var(v1));
+        });
+
+        it("reads v1", () -> log.add(var(v1)));
+
+        describe("describe A", () -> {
+            it("reads v1 in inner group", () -> log.add(var(v1)));
+        });
+
+        afterAll(() -> log.add(var(v1)));
+    }}
+
+    @IsolatedVars
+    static class ConcurrentSpec {{
+        Var<String> v1 = var();
+
+        for (int i = 0; i < 4; i++) {
+            String value = "value " + i;
+            it("block " + i, () -> {
+                var(v1, value);
+                barrier.await(5, TimeUnit.SECONDS);
+                log.add(value + " -> " + var(v1));
+            });
+        }
+    }}
+
+    private static List<String> log;
+    private static CyclicBarrier barrier;
+
+    @Before
+    public void resetLog() {
+        log = Collections.synchronizedList(new ArrayList<>());
+    }
+
     @Test
     public void stores_value_in_variable() {
         final Var<String> s = var();
@@ -16,4 +118,78 @@ public class VarTest {
 
         assertThat(var(s), is("value"));
     }
+
+    @Test
+    public void shares_values_between_hooks_and_examples_by_default() throws Throwable {
+        for (Example example : read(SharedVarSpec.class)) {
+            example.tryToExecute();
+        }
+
+        assertThat(log, is(asList(
+            "before all sees let value",
+            "example 1 sees let value",
+            "after all sees count 2"
+        )));
+    }
+
+    @Test
+    public void initializes_isolated_variables_before_before_all_hooks() throws Throwable {
+        for (Example example : read(IsolatedLetSpec.class)) {
+            example.tryToExecute();
+        }
+
+        assertThat(log, is(asList(
+            "before all sees let value",
+            "example 1 sees let value",
+            "after all sees count 0"
+        )));
+    }
+
+    @Test
+    public void keeps_values_assigned_by_examples_visible_only_to_them() throws Throwable {
+        for (Example example : read(ScopedVarSpec.class)) {
+            example.tryToExecute();
+        }
+
+        assertThat(log, is(asList(
+            "before all value",
+            "example value",
+            "before all value",
+            "before all value",
+            "before all value"
+        )));
+    }
+
+    @Test
+    public void keeps_values_of_examples_running_at_the_same_time_apart() throws Throwable {
+        List<Example> examples = read(ConcurrentSpec.class);
+        barrier = new CyclicBarrier(examples.size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(examples.size());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Example example : examples) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        example.tryToExecute();
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Collections.sort(log);
+        assertThat(log, is(asList(
+            "value 0 -> value 0",
+            "value 1 -> value 1",
+            "value 2 -> value 2",
+            "value 3 -> value 3"
+        )));
+    }
 }
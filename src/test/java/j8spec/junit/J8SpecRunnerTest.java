@@ -1,26 +1,45 @@
 package j8spec.junit;
 
 import j8spec.Example;
+import j8spec.Exceptions;
 import j8spec.UnsafeBlock;
 import j8spec.annotation.DefinedOrder;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.Description;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
 import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.model.InitializationError;
 import org.junit.runners.model.TestTimedOutException;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static j8spec.J8Spec.afterAll;
+import static j8spec.J8Spec.beforeAll;
 import static j8spec.J8Spec.describe;
 import static j8spec.J8Spec.it;
 import static j8spec.J8Spec.xit;
+import static java.util.Arrays.asList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+import static org.junit.runner.Description.createTestDescription;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doThrow;
@@ -52,7 +71,113 @@ public class J8SpecRunnerTest {
         it("block 5", c -> c.timeout(500, MILLISECONDS), () -> Thread.sleep(1000));
     }}
 
+    public static class TimeoutSpec {{
+        it("block 1", c -> c.timeout(1, SECONDS), () -> log.add(Thread.currentThread().getName()));
+    }}
+
+    public static class IgnoredInterruptionSpec {{
+        it("block 1", c -> c.timeout(100, MILLISECONDS), () -> {
+            while (!stopBusyLoop) {
+                Thread.yield();
+            }
+        });
+    }}
+
+    @DefinedOrder
+    public static class TimeoutWithAfterAllSpec {{
+        afterAll(() -> log.add("after all"));
+
+        it("block 1", c -> c.timeout(100, MILLISECONDS), () -> {
+            while (!stopBusyLoop) {
+                Thread.yield();
+            }
+            log.add("block 1 finished");
+        });
+
+        it("block 2", () -> log.add("block 2"));
+    }}
+
+    public static class TimeoutWithFailingAfterAllSpec {{
+        afterAll(() -> {
+            throw new CustomException();
+        });
+
+        it("block 1", c -> c.timeout(100, MILLISECONDS), () -> {
+            while (!stopBusyLoop) {
+                Thread.yield();
+            }
+        });
+    }}
+
+    public static class TimeoutWithAllocationBudgetSpec {{
+        it("block 1", c -> c.timeout(10, SECONDS).maxAllocatedBytes(16), () -> allocated = new byte[1024 * 1024]);
+    }}
+
+    public static class ManyTimeoutsSpec {{
+        for (int i = 0; i < 300; i++) {
+            it("block " + i, c -> c.timeout(10, SECONDS), () -> Thread.sleep(500));
+        }
+    }}
+
+    public static class ParallelSpec {{
+        beforeAll(() -> log.add("before all"));
+
+        for (int i = 0; i < 50; i++) {
+            it("block " + i, () -> log.add("block"));
+        }
+
+        describe("describe A", () -> {
+            beforeAll(() -> log.add("describe A before all"));
+
+            for (int i = 0; i < 50; i++) {
+                it("block A." + i, () -> log.add("block A"));
+            }
+
+            afterAll(() -> log.add("describe A after all"));
+        });
+
+        afterAll(() -> log.add("after all"));
+    }}
+
+    public static class AllocationBudgetSpec {{
+        it("block 1", c -> c.maxAllocatedBytes(1024), () -> log.add("block 1"));
+    }}
+
+    public static class FailingBeforeAllSpec {{
+        beforeAll(() -> {
+            Thread.sleep(200);
+            throw new RuntimeException("before all");
+        });
+
+        for (int i = 0; i < 20; i++) {
+            it("block " + i, () -> log.add("block"));
+        }
+    }}
+
+    @DefinedOrder
+    public static class FilteredSpec {{
+        describe("describe A", () -> {
+            beforeAll(() -> log.add("describe A before all"));
+            it("block A.1", () -> log.add("block A.1"));
+        });
+
+        describe("describe B", () -> {
+            beforeAll(() -> log.add("describe B before all"));
+            it("block B.1", () -> log.add("block B.1"));
+            it("block B.2", () -> log.add("block B.2"));
+            afterAll(() -> log.add("describe B after all"));
+        });
+    }}
+
+    public static class DuplicatedExampleSpec {{
+        it("block 1", () -> {});
+        it("block 1", () -> {});
+    }}
+
     private static Map<String, UnsafeBlock> blocks;
+    private static List<String> log;
+    private static volatile boolean stopBusyLoop;
+    private static volatile byte[] allocated;
 
     private static UnsafeBlock newBlock(String id) {
         UnsafeBlock block = mock(UnsafeBlock.class);
@@ -67,6 +192,7 @@ public class J8SpecRunnerTest {
     @Before
     public void resetBlocks() {
         blocks = new HashMap<>();
+        log = Collections.synchronizedList(new ArrayList<>());
     }
 
     @Test
@@ -123,11 +249,16 @@ public class J8SpecRunnerTest {
 
     @Test
     public void describes_child_with_parent_context_using_custom_format() throws InitializationError {
-        J8SpecRunner runner = new J8SpecRunner(SampleSpec.class);
-        List<Example> examples = runner.getChildren();
-
         System.setProperty("j8spec.junit.description.format", "%2$s (%1$s)");
         System.setProperty("j8spec.junit.description.separator", ", ");
+        J8SpecRunner runner;
+        try {
+            runner = new J8SpecRunner(SampleSpec.class);
+        } finally {
+            System.clearProperty("j8spec.junit.description.format");
+            System.clearProperty("j8spec.junit.description.separator");
+        }
+        List<Example> examples = runner.getChildren();
 
         Description blockA1Description = runner.describeChild(examples.get(4));
 
@@ -140,6 +271,20 @@ public class J8SpecRunnerTest {
         assertThat(blockAA1Description.getMethodName(), is("block A.A.1 (describe A, describe A A)"));
     }
 
+    @Test
+    public void describes_children_once_when_runner_is_created() throws InitializationError {
+        J8SpecRunner runner = new J8SpecRunner(SampleSpec.class);
+        List<Example> examples = runner.getChildren();
+
+        Description description = runner.describeChild(examples.get(4));
+        System.setProperty("j8spec.junit.description.separator", ", ");
+        try {
+            assertThat(runner.describeChild(examples.get(4)), sameInstance(description));
+        } finally {
+            System.clearProperty("j8spec.junit.description.separator");
+        }
+    }
+
     @Test
     public void notifies_when_a_child_starts() throws InitializationError {
         J8SpecRunner runner = new J8SpecRunner(SampleSpec.class);
@@ -294,5 +439,341 @@ public class J8SpecRunnerTest {
 
         assertThat(listener.getDescription(), is(runner.describeChild(examples.get(6))));
         assertThat(listener.getException(), instanceOf(TestTimedOutException.class));
+        assertThat(listener.getException().getMessage(), is("test timed out after 500 milliseconds"));
+    }
+
+    @Test
+    public void reports_where_example_was_stuck_when_it_times_out() throws InitializationError {
+        J8SpecRunner runner = new J8SpecRunner(SampleSpec.class);
+        List<Example> examples = runner.getChildren();
+
+        RunNotifier runNotifier = new RunNotifier();
+        RunListenerHelper listener = new RunListenerHelper();
+        runNotifier.addListener(listener);
+
+        runner.runChild(examples.get(6), runNotifier);
+
+        boolean stuckInSpec = false;
+        for (StackTraceElement element : listener.getException().getStackTrace()) {
+            stuckInSpec |= element.getClassName().startsWith(SampleSpec.class.getName());
+        }
+        assertThat(stuckInSpec, is(true));
+        assertThat(Thread.currentThread().isInterrupted(), is(false));
+    }
+
+    @Test
+    public void runs_example_with_timeout_in_a_worker_thread() throws InitializationError {
+        J8SpecRunner runner = new J8SpecRunner(TimeoutSpec.class);
+
+        runner.run(new RunNotifier());
+
+        assertThat(log, is(Collections.singletonList("j8spec-timeout-worker")));
+    }
+
+    @Test(timeout = 10_000)
+    public void fails_example_that_ignores_interruptions_when_it_times_out() throws InitializationError {
+        J8SpecRunner runner = new J8SpecRunner(IgnoredInterruptionSpec.class);
+
+        RunNotifier runNotifier = new RunNotifier();
+        RunListenerHelper listener = new RunListenerHelper();
+        runNotifier.addListener(listener);
+
+        stopBusyLoop = false;
+        try {
+            runner.run(runNotifier);
+        } finally {
+            stopBusyLoop = true;
+        }
+
+        assertThat(listener.getException(), instanceOf(TestTimedOutException.class));
+        assertThat(listener.getException().getMessage(), is("test timed out after 100 milliseconds"));
+    }
+
+    @Test(timeout = 10_000)
+    public void runs_after_all_hooks_once_when_an_example_times_out() throws Exception {
+        J8SpecRunner runner = new J8SpecRunner(TimeoutWithAfterAllSpec.class);
+
+        stopBusyLoop = false;
+        try {
+            runner.run(new RunNotifier());
+            assertThat(log, is(asList("block 2", "after all")));
+        } finally {
+            stopBusyLoop = true;
+        }
+
+        while (!log.contains("block 1 finished")) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(100);
+        assertThat(log, is(asList("block 2", "after all", "block 1 finished")));
+    }
+
+    @Test(timeout = 10_000)
+    public void reports_after_all_hook_failure_when_the_last_example_times_out() throws InitializationError {
+        J8SpecRunner runner = new J8SpecRunner(TimeoutWithFailingAfterAllSpec.class);
+
+        RunNotifier runNotifier = new RunNotifier();
+        RunListenerHelper listener = new RunListenerHelper();
+        runNotifier.addListener(listener);
+
+        stopBusyLoop = false;
+        try {
+            runner.run(runNotifier);
+        } finally {
+            stopBusyLoop = true;
+        }
+
+        assertThat(listener.getException(), instanceOf(TestTimedOutException.class));
+        assertThat(listener.getException().getSuppressed().length, is(1));
+        assertThat(listener.getException().getSuppressed()[0], instanceOf(CustomException.class));
+    }
+
+    @Test
+    public void runs_examples_in_parallel_respecting_before_all_and_after_all_hooks() throws InitializationError {
+        J8SpecRunner runner = new J8SpecRunner(ParallelSpec.class);
+        runner.setScheduler(new ParallelScheduler(4));
+
+        runner.run(new RunNotifier());
+
+        assertThat(log.size(), is(104));
+        assertThat(Collections.frequency(log, "before all"), is(1));
+        assertThat(Collections.frequency(log, "describe A before all"), is(1));
+        assertThat(Collections.frequency(log, "describe A after all"), is(1));
+        assertThat(Collections.frequency(log, "after all"), is(1));
+
+        assertThat(log.get(0), is("before all"));
+        assertThat(log.indexOf("describe A before all") < log.indexOf("block A"), is(true));
+        assertThat(log.indexOf("describe A after all") > log.lastIndexOf("block A"), is(true));
+        assertThat(log.get(103), is("after all"));
+    }
+
+    @Test
+    public void runs_examples_in_virtual_threads_respecting_before_all_and_after_all_hooks() throws InitializationError {
+        J8SpecRunner runner = new J8SpecRunner(ParallelSpec.class);
+        runner.setScheduler(new VirtualThreadScheduler());
+
+        runner.run(new RunNotifier());
+
+        assertThat(log.size(), is(104));
+        assertThat(log.get(0), is("before all"));
+        assertThat(log.get(103), is("after all"));
+    }
+
+    @Test
+    public void checks_allocation_budget_of_examples_with_timeout() throws InitializationError {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+
+        J8SpecRunner runner = new J8SpecRunner(TimeoutWithAllocationBudgetSpec.class);
+
+        RunNotifier runNotifier = new RunNotifier();
+        RunListenerHelper listener = new RunListenerHelper();
+        runNotifier.addListener(listener);
+
+        runner.run(runNotifier);
+
+        assertThat(listener.getException(), instanceOf(Exceptions.AllocationBudgetExceeded.class));
+    }
+
+    @Test(timeout = 30_000)
+    public void runs_examples_with_timeout_in_virtual_threads_without_a_platform_thread_each() throws InitializationError {
+        assumeTrue(VirtualThreadScheduler.isSupported());
+
+        J8SpecRunner runner = new J8SpecRunner(ManyTimeoutsSpec.class);
+        runner.setScheduler(new VirtualThreadScheduler());
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        int threadCountBefore = threads.getThreadCount();
+        threads.resetPeakThreadCount();
+
+        runner.run(new RunNotifier());
+
+        int carrierThreads = Runtime.getRuntime().availableProcessors();
+        assertThat(threads.getPeakThreadCount() - threadCountBefore <= carrierThreads + 20, is(true));
+    }
+
+    @Test
+    public void fails_examples_with_allocation_budget_in_virtual_threads() throws InitializationError {
+        assumeTrue(VirtualThreadScheduler.isSupported());
+
+        J8SpecRunner runner = new J8SpecRunner(AllocationBudgetSpec.class);
+        runner.setScheduler(new VirtualThreadScheduler());
+
+        List<Failure> failures = new ArrayList<>();
+        AtomicInteger skipped = new AtomicInteger();
+        RunNotifier runNotifier = new RunNotifier();
+        runNotifier.addListener(new RunListener() {
+            @Override
+            public void testFailure(Failure failure) {
+                failures.add(failure);
+            }
+
+            @Override
+            public void testAssumptionFailure(Failure failure) {
+                skipped.incrementAndGet();
+            }
+        });
+
+        runner.run(runNotifier);
+
+        assertThat(log, is(asList("block 1")));
+        assertThat(skipped.get(), is(0));
+        assertThat(failures.size(), is(1));
+        assertThat(failures.get(0).getException(), instanceOf(Exceptions.AllocationBudgetNotChecked.class));
+    }
+
+    @Test
+    public void skips_remaining_examples_of_the_group_when_before_all_hook_fails_in_parallel() throws InitializationError {
+        J8SpecRunner runner = new J8SpecRunner(FailingBeforeAllSpec.class);
+        runner.setScheduler(new ParallelScheduler(4));
+
+        AtomicInteger failures = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+        RunNotifier runNotifier = new RunNotifier();
+        runNotifier.addListener(new RunListener() {
+            @Override
+            public void testFailure(Failure failure) {
+                failures.incrementAndGet();
+            }
+
+            @Override
+            public void testAssumptionFailure(Failure failure) {
+                skipped.incrementAndGet();
+            }
+
+            @Override
+            public void testIgnored(Description description) {
+                skipped.incrementAndGet();
+            }
+        });
+
+        runner.run(runNotifier);
+
+        assertThat(log.isEmpty(), is(true));
+        assertThat(failures.get(), is(1));
+        assertThat(skipped.get(), is(19));
+    }
+
+    @Test
+    public void waits_for_examples_running_in_parallel_when_interrupted() {
+        ParallelScheduler scheduler = new ParallelScheduler(2);
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean finished = new AtomicBoolean();
+        scheduler.schedule(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException ignored) {
+            }
+            finished.set(true);
+        });
+
+        try {
+            started.await();
+            Thread.currentThread().interrupt();
+            scheduler.finished();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            assertThat(Thread.interrupted(), is(true));
+        }
+
+        assertThat(finished.get(), is(true));
+    }
+
+    @Test
+    public void waits_for_examples_running_in_parallel_when_one_of_them_fails() {
+        ParallelScheduler scheduler = new ParallelScheduler(2);
+        AtomicBoolean finished = new AtomicBoolean();
+        RuntimeException failure = new RuntimeException();
+        scheduler.schedule(() -> {
+            throw failure;
+        });
+        scheduler.schedule(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException ignored) {
+            }
+            finished.set(true);
+        });
+
+        try {
+            scheduler.finished();
+            throw new AssertionError("failure not thrown");
+        } catch (RuntimeException e) {
+            assertThat(e, is(sameInstance(failure)));
+        }
+
+        assertThat(finished.get(), is(true));
+    }
+
+    @Test(expected = InitializationError.class)
+    public void does_not_accept_illegal_parallel_property() throws InitializationError {
+        System.setProperty("j8spec.parallel", "many");
+        try {
+            new J8SpecRunner(SampleSpec.class);
+        } finally {
+            System.clearProperty("j8spec.parallel");
+        }
+    }
+
+    @Test
+    public void builds_only_examples_accepted_by_the_filter() throws Exception {
+        J8SpecRunner runner = new J8SpecRunner(FilteredSpec.class);
+
+        runner.filter(Filter.matchMethodDescription(
+            createTestDescription(FilteredSpec.class.getName(), "describe B/block B.1")
+        ));
+        List<Example> examples = runner.getChildren();
+
+        assertThat(examples.size(), is(1));
+        assertThat(examples.get(0).description(), is("block B.1"));
+
+        runner.run(new RunNotifier());
+
+        assertThat(log, is(asList("describe B before all", "block B.1", "describe B after all")));
+    }
+
+    @Test(expected = NoTestsRemainException.class)
+    public void rejects_filter_that_does_not_accept_any_example() throws Exception {
+        J8SpecRunner runner = new J8SpecRunner(FilteredSpec.class);
+
+        runner.filter(Filter.matchMethodDescription(
+            createTestDescription(FilteredSpec.class.getName(), "describe C/block C.1")
+        ));
+    }
+
+    @Test
+    public void filters_examples_already_built() throws Exception {
+        J8SpecRunner runner = new J8SpecRunner(FilteredSpec.class);
+        runner.getDescription();
+
+        runner.filter(Filter.matchMethodDescription(
+            createTestDescription(FilteredSpec.class.getName(), "describe A/block A.1")
+        ));
+
+        assertThat(runner.getDescription().getChildren().size(), is(1));
+    }
+
+    @Test
+    public void runs_after_all_hooks_of_groups_filtered_after_examples_were_built() throws Exception {
+        J8SpecRunner runner = new J8SpecRunner(FilteredSpec.class);
+        runner.getDescription();
+
+        runner.filter(Filter.matchMethodDescription(
+            createTestDescription(FilteredSpec.class.getName(), "describe B/block B.1")
+        ));
+        runner.run(new RunNotifier());
+
+        assertThat(log, is(asList("describe B before all", "block B.1", "describe B after all")));
+    }
+
+    @Test
+    public void fails_to_initialize_when_spec_defines_duplicated_examples() {
+        try {
+            new J8SpecRunner(DuplicatedExampleSpec.class);
+            throw new AssertionError("duplicated example should have been found");
+        } catch (InitializationError e) {
+            assertThat(e.getCauses().get(0), instanceOf(Exceptions.BlockAlreadyDefined.class));
+        }
     }
 }